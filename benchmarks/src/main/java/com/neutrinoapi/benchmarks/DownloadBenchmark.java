@@ -0,0 +1,126 @@
+package com.neutrinoapi.benchmarks;
+
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.FsyncPolicy;
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare writing a file download through {@code InputStream.transferTo} against the client's direct buffer path
+ *
+ * <p>The mock server serves a blocklist sized file, 256 MiB by default. Run with
+ * {@code java -jar target/benchmarks.jar DownloadBenchmark -prof gc} to also compare allocation, and with
+ * {@code -p size=1048576} for a small file. The fsync benchmark shows the cost of forcing the file to storage, which
+ * depends heavily on the disk.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class DownloadBenchmark {
+
+    private static final Map<String, String> PARAMS = Map.of("format", "csv");
+
+    @Param({"268435456"})
+    public int size;
+
+    private MockWebServer server;
+    private OkHttpClient httpClient;
+    private NeutrinoAPIClient client;
+    private NeutrinoAPIClient fsyncClient;
+    private Path outputFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] chunk = new byte[1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(chunk);
+        Buffer file = new Buffer();
+        for (int written = 0; written < size; written += chunk.length) {
+            file.write(chunk, 0, Math.min(chunk.length, size - written));
+        }
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                // Cloning shares the buffer segments, it does not copy the file
+                return new MockResponse()
+                        .setHeader("Content-Type", "text/csv")
+                        .setBody(file.clone());
+            }
+        });
+        server.start();
+        String baseURL = server.url("/").toString();
+        httpClient = new OkHttpClient();
+        client = NeutrinoAPIClient.builder("benchmark", "benchmark").baseURL(baseURL).build();
+        fsyncClient = NeutrinoAPIClient.builder("benchmark", "benchmark").baseURL(baseURL).fsync(FsyncPolicy.DATA).build();
+        outputFile = Files.createTempFile("neutrinoapi-download", ".csv");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.shutdown();
+        Files.deleteIfExists(outputFile);
+    }
+
+    /**
+     * The previous behaviour: copy through the body input stream into a file output stream
+     */
+    @Benchmark
+    public long transferTo() throws IOException {
+        Request request = new Request.Builder()
+                .url(server.url("/ip-blocklist-download"))
+                .header("User-ID", "benchmark")
+                .header("API-Key", "benchmark")
+                .build();
+        try (Response response = httpClient.newCall(request).execute();
+             FileOutputStream os = new FileOutputStream(outputFile.toFile())) {
+            response.body().byteStream().transferTo(os);
+        }
+        return outputFile.toFile().length();
+    }
+
+    /**
+     * The client as shipped, writing through a direct buffer
+     */
+    @Benchmark
+    public APIResponse directBuffer() {
+        return client.ipBlocklistDownload(PARAMS, outputFile);
+    }
+
+    /**
+     * The client with every download forced to storage
+     */
+    @Benchmark
+    public APIResponse directBufferFsync() {
+        return fsyncClient.ipBlocklistDownload(PARAMS, outputFile);
+    }
+}
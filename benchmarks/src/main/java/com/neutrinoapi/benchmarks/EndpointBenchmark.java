@@ -0,0 +1,120 @@
+package com.neutrinoapi.benchmarks;
+
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.TypedAPIResponse;
+import com.neutrinoapi.client.model.IPInfoResult;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end client throughput and latency for each endpoint family against the local mock server
+ *
+ * <p>Throughput mode gives requests per millisecond, sample time mode gives the p50, p90, p99 and p99.9 latencies.
+ * Run with {@code java -jar target/benchmarks.jar EndpointBenchmark -prof gc} and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per request, to see regressions in the request pipeline and
+ * response construction. Use {@code -bm thrpt} or {@code -bm sample} to run one mode only.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class EndpointBenchmark {
+
+    private static final Map<String, String> IP_INFO_PARAMS = Map.of("ip", "1.1.1.1");
+    private static final Map<String, String> URL_INFO_PARAMS = Map.of("url", "https://www.example.com/", "fetch-content", "true");
+    private static final Map<String, String> QR_CODE_PARAMS = Map.of("content", "https://www.neutrinoapi.com/", "width", "256", "height", "256");
+
+    /**
+     * A file for each benchmark thread to download into
+     */
+    @State(Scope.Thread)
+    public static class OutputFile {
+
+        Path path;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            path = Files.createTempFile("neutrinoapi-benchmark", ".png");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Small JSON response read into a JsonObject
+     */
+    @Benchmark
+    public APIResponse smallJson(MockServerState state) {
+        return state.client.ipInfo(IP_INFO_PARAMS);
+    }
+
+    /**
+     * Small JSON response read straight into a typed result
+     */
+    @Benchmark
+    public TypedAPIResponse<IPInfoResult> smallJsonTyped(MockServerState state) {
+        return state.client.ipInfoResult(IP_INFO_PARAMS);
+    }
+
+    /**
+     * Small JSON response through the asynchronous pipeline
+     */
+    @Benchmark
+    public APIResponse smallJsonAsync(MockServerState state) {
+        return state.client.ipInfoAsync(IP_INFO_PARAMS).join();
+    }
+
+    /**
+     * Small JSON response with client metrics recording, compare against {@link #smallJson} for their overhead
+     */
+    @Benchmark
+    public APIResponse smallJsonMetrics(MockServerState state) {
+        return state.metricsClient.ipInfo(IP_INFO_PARAMS);
+    }
+
+    /**
+     * Large JSON response, streamed into a JsonObject
+     */
+    @Benchmark
+    public APIResponse largeJson(MockServerState state) {
+        return state.client.urlInfo(URL_INFO_PARAMS);
+    }
+
+    /**
+     * Binary response streamed to an output stream, without touching the disk
+     */
+    @Benchmark
+    public APIResponse binaryStream(MockServerState state) {
+        return state.client.qrCode(QR_CODE_PARAMS, OutputStream.nullOutputStream());
+    }
+
+    /**
+     * Binary response downloaded to a file
+     */
+    @Benchmark
+    public APIResponse binaryFile(MockServerState state, OutputFile outputFile) {
+        return state.client.qrCode(QR_CODE_PARAMS, outputFile.path);
+    }
+}
@@ -0,0 +1,82 @@
+package com.neutrinoapi.benchmarks;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare buffering the response body as a string before parsing against parsing straight from the body stream
+ *
+ * <p>The payload mimics a URL Info response with "fetch-content" enabled. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} between the two benchmarks. Streaming avoids a full copy of large bodies but its
+ * reader buffers cost more than the string for small ones, which is why the client only streams bodies over 8KB
+ * (or of unknown length).</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonParsingBenchmark {
+
+    private static final MediaType JSON = MediaType.get("application/json;charset=UTF-8");
+
+    @Param({"1024", "1048576"})
+    public int contentSize;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        StringBuilder content = new StringBuilder(contentSize);
+        while (content.length() < contentSize) {
+            content.append("<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit</p>\\n");
+        }
+        String json = "{\"url\":\"https://www.example.com/\",\"valid-url\":true,\"is-error\":false,\"http-status\":200,"
+                + "\"content-type\":\"text/html\",\"content-encoding\":\"UTF-8\",\"content-size\":" + contentSize + ","
+                + "\"title\":\"Example\",\"content\":\"" + content + "\"}";
+        payload = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ResponseBody body() {
+        return ResponseBody.create(new Buffer().write(payload), JSON, payload.length);
+    }
+
+    /**
+     * The previous behaviour: read the whole body into a string, then parse it
+     */
+    @Benchmark
+    public JsonObject bufferedString() throws IOException {
+        try (ResponseBody body = body()) {
+            return JsonParser.parseString(body.string()).getAsJsonObject();
+        }
+    }
+
+    /**
+     * Parse straight from the body character stream
+     */
+    @Benchmark
+    public JsonObject streaming() throws IOException {
+        try (ResponseBody body = body(); Reader reader = body.charStream()) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.neutrinoapi.benchmarks;
+
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import com.neutrinoapi.client.metrics.InMemoryClientMetrics;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Local mock Neutrino API server shared by all benchmark threads
+ *
+ * <p>It serves one response per endpoint family: a small IP Info JSON response for most APIs, a large URL Info
+ * JSON response (with "fetch-content" enabled) for url-info, and a binary PNG sized body for the image and
+ * HTML render APIs.</p>
+ */
+@State(Scope.Benchmark)
+public class MockServerState {
+
+    static final String IP_INFO_JSON = "{\"ip\":\"1.1.1.1\",\"valid\":true,\"is-v6\":false,\"is-v4-mapped\":false,"
+            + "\"is-bogon\":false,\"country\":\"Australia\",\"country-code\":\"AU\",\"country-code3\":\"AUS\","
+            + "\"continent-code\":\"OC\",\"currency-code\":\"AUD\",\"city\":\"Brisbane\",\"region\":\"Queensland\","
+            + "\"region-code\":\"QLD\",\"latitude\":-27.467,\"longitude\":153.028,\"language-code\":\"en\","
+            + "\"hostname\":\"\",\"host-domain\":\"\",\"timezone\":{\"id\":\"Australia/Brisbane\",\"name\":\"AEST\","
+            + "\"abbr\":\"AEST\",\"date\":\"2024-01-01\",\"time\":\"10:00:00.000000\",\"offset\":\"+10:00\"}}";
+
+    static final int LARGE_JSON_SIZE = 512 * 1024;
+    static final int BINARY_SIZE = 64 * 1024;
+
+    MockWebServer server;
+    NeutrinoAPIClient client;
+    NeutrinoAPIClient metricsClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String largeJson = largeJson();
+        byte[] binary = new byte[BINARY_SIZE];
+        ThreadLocalRandom.current().nextBytes(binary);
+        Buffer binaryBody = new Buffer().write(binary);
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getRequestUrl().encodedPath();
+                if (path.endsWith("/url-info")) {
+                    return new MockResponse()
+                            .setHeader("Content-Type", "application/json;charset=UTF-8")
+                            .setBody(largeJson);
+                }
+                if (path.endsWith("/qr-code") || path.endsWith("/html-render") || path.endsWith("/image-resize")) {
+                    // Cloning shares the buffer segments, it does not copy the body
+                    return new MockResponse()
+                            .setHeader("Content-Type", "image/png")
+                            .setBody(binaryBody.clone());
+                }
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json;charset=UTF-8")
+                        .setBody(IP_INFO_JSON);
+            }
+        });
+        server.start();
+        client = new NeutrinoAPIClient("benchmark", "benchmark", server.url("/").toString());
+        metricsClient = NeutrinoAPIClient.builder("benchmark", "benchmark")
+                .baseURL(server.url("/").toString())
+                .metrics(new InMemoryClientMetrics())
+                .build();
+    }
+
+    private static String largeJson() {
+        StringBuilder content = new StringBuilder(LARGE_JSON_SIZE);
+        while (content.length() < LARGE_JSON_SIZE) {
+            content.append("<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit</p>\\n");
+        }
+        return "{\"url\":\"https://www.example.com/\",\"valid-url\":true,\"is-error\":false,\"http-status\":200,"
+                + "\"content-type\":\"text/html\",\"content-encoding\":\"UTF-8\",\"content-size\":" + LARGE_JSON_SIZE + ","
+                + "\"title\":\"Example\",\"content\":\"" + content + "\"}";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+}
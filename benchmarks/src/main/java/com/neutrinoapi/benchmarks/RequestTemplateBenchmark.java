@@ -0,0 +1,70 @@
+package com.neutrinoapi.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare formatting and parsing the URL and validating the headers for every request against building it from the
+ * client's pre-parsed URL and header templates
+ *
+ * <p>Run with {@code java -jar target/benchmarks.jar RequestTemplateBenchmark -prof gc} and compare
+ * {@code gc.alloc.rate.norm}. Both build the same GET request with one query parameter, without any network I/O, as
+ * the client does on every call. {@code EndpointBenchmark} shows the effect end-to-end.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestTemplateBenchmark {
+
+    private static final String BASE_URL = "https://neutrinoapi.net/";
+    private static final String ENDPOINT = "ip-info";
+    private static final String USER_ID = "benchmark";
+    private static final String API_KEY = "0123456789abcdef0123456789abcdef";
+    private static final Map<String, String> PARAMS = Map.of("ip", "1.1.1.1");
+
+    private final HttpUrl url = HttpUrl.get(BASE_URL + ENDPOINT);
+    private final Headers headers = Headers.of("User-ID", USER_ID, "API-Key", API_KEY);
+
+    /**
+     * The previous behaviour: format the URL, parse it and set each header
+     */
+    @Benchmark
+    public Request formatAndParse() {
+        HttpUrl httpUrl = HttpUrl.parse(String.format("%s%s", BASE_URL, ENDPOINT));
+        HttpUrl.Builder urlBuilder = httpUrl.newBuilder();
+        PARAMS.forEach(urlBuilder::addQueryParameter);
+        return new Request.Builder()
+                .header("User-ID", USER_ID)
+                .header("API-Key", API_KEY)
+                .url(urlBuilder.build())
+                .build();
+    }
+
+    /**
+     * The client as shipped, starting from the pre-parsed URL and headers
+     */
+    @Benchmark
+    public Request template() {
+        HttpUrl.Builder urlBuilder = url.newBuilder();
+        PARAMS.forEach(urlBuilder::addQueryParameter);
+        return new Request.Builder()
+                .headers(headers)
+                .url(urlBuilder.build())
+                .build();
+    }
+}
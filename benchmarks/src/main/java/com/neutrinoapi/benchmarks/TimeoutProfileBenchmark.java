@@ -0,0 +1,78 @@
+package com.neutrinoapi.benchmarks;
+
+import com.neutrinoapi.client.APIResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare deriving an HTTP client per request against the pre-built timeout profiles
+ *
+ * <p>Run with {@code java -jar target/benchmarks.jar TimeoutProfileBenchmark -prof gc} to see the allocation rate
+ * per operation. The end-to-end results are bounded by the local mock server, {@code deriveClientOnly} isolates the
+ * per-request cost which the timeout profiles remove.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class TimeoutProfileBenchmark {
+
+    private static final OkHttpClient SHARED_CLIENT = new OkHttpClient.Builder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private static final Map<String, String> PARAMS = Map.of("ip", "1.1.1.1");
+
+    /**
+     * The previous behaviour: a new client is built for every request just to set the timeouts
+     */
+    @Benchmark
+    public int perCallClient(MockServerState state) throws IOException {
+        OkHttpClient client = SHARED_CLIENT.newBuilder()
+                .readTimeout(10L, TimeUnit.SECONDS)
+                .writeTimeout(10L, TimeUnit.SECONDS)
+                .build();
+        Request request = new Request.Builder()
+                .url(state.server.url("/ip-info?ip=1.1.1.1"))
+                .header("User-ID", "benchmark")
+                .header("API-Key", "benchmark")
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string().length();
+        }
+    }
+
+    /**
+     * The client as shipped, using its pre-built timeout profiles
+     */
+    @Benchmark
+    public APIResponse timeoutProfile(MockServerState state) {
+        return state.client.ipInfo(PARAMS);
+    }
+
+    /**
+     * Cost of deriving a client on its own, without any network I/O
+     */
+    @Benchmark
+    public OkHttpClient deriveClientOnly() {
+        return SHARED_CLIENT.newBuilder()
+                .readTimeout(10L, TimeUnit.SECONDS)
+                .writeTimeout(10L, TimeUnit.SECONDS)
+                .build();
+    }
+}
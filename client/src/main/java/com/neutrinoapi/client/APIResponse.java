@@ -46,8 +46,13 @@ public class APIResponse {
     private final int errorCode;
     private final String errorMessage;
     private final Throwable errorCause;
+    private final CallTimings timings;
 
     public APIResponse(JsonObject data, Path file, String contentType, int httpStatusCode, int errorCode, String errorMessage, Throwable errorCause) {
+        this(data, file, contentType, httpStatusCode, errorCode, errorMessage, errorCause, null);
+    }
+
+    APIResponse(JsonObject data, Path file, String contentType, int httpStatusCode, int errorCode, String errorMessage, Throwable errorCause, CallTimings timings) {
         this.data = data;
         this.file = file;
         this.contentType = contentType;
@@ -55,6 +60,7 @@ public class APIResponse {
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
         this.errorCause = errorCause;
+        this.timings = timings;
     }
 
     /**
@@ -106,6 +112,28 @@ public class APIResponse {
         return Optional.ofNullable(errorCause);
     }
 
+    /**
+     * Phase timings of the HTTP call which produced this response, empty for responses not from an HTTP call of their
+     * own: cache hits and responses shared with an identical in-flight request
+     */
+    public Optional<CallTimings> getTimings() {
+        return Optional.ofNullable(timings);
+    }
+
+    /**
+     * A copy of the response with the timings of the HTTP call which produced it
+     */
+    APIResponse withTimings(CallTimings timings) {
+        return new APIResponse(data, file, contentType, httpStatusCode, errorCode, errorMessage, errorCause, timings);
+    }
+
+    /**
+     * The response without timings, for a caller which did not make the HTTP call
+     */
+    APIResponse withoutTimings() {
+        return timings == null ? this : withTimings(null);
+    }
+
     /**
      * Create an API response for JSON data
      */
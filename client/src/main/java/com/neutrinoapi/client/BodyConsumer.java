@@ -0,0 +1,39 @@
+package com.neutrinoapi.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Sink;
+
+/**
+ * Consume the body of a file output API response as it streams in, instead of storing it in a file
+ *
+ * <p>The body is only valid until the consumer returns. Responses streamed to a consumer are never retried, as part
+ * of the body may already have been consumed.</p>
+ */
+@FunctionalInterface
+public interface BodyConsumer {
+
+    void accept(BufferedSource body) throws IOException;
+
+    /**
+     * Copy the body to an output stream, which is flushed but not closed
+     */
+    static BodyConsumer to(OutputStream outputStream) {
+        return body -> {
+            Sink sink = Okio.sink(outputStream);
+            body.readAll(sink);
+            sink.flush();
+        };
+    }
+
+    /**
+     * Copy the body to a channel, which is not closed
+     */
+    static BodyConsumer to(WritableByteChannel channel) {
+        return to(Channels.newOutputStream(channel));
+    }
+}
@@ -0,0 +1,174 @@
+package com.neutrinoapi.client;
+
+import com.neutrinoapi.client.metrics.ClientMetrics;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Measure the phase timings of each HTTP call, and count its bytes if the client has metrics
+ *
+ * <p>The timings are written to the {@link CallTimingsRecorder} tag of the request, and the endpoint is read from its
+ * String tag, both set when the client builds the request. Calls without these tags are not measured. The timings
+ * and bytes are reported to the client metrics when the call ends.</p>
+ */
+final class CallEventListener extends EventListener {
+
+    private final CallTimingsRecorder timings;
+    private final ClientMetrics metrics;
+    private final String endpoint;
+    private long callStart;
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long requestStart;
+    private long requestEnd;
+    private long responseHeadersEnd;
+    private long bytesSent;
+    private long bytesReceived;
+
+    private CallEventListener(CallTimingsRecorder timings, ClientMetrics metrics, String endpoint) {
+        this.timings = timings;
+        this.metrics = metrics;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * A listener for every call made by the client
+     *
+     * @param metrics the client metrics, or null if the client has none
+     */
+    static EventListener.Factory factory(ClientMetrics metrics) {
+        return call -> {
+            Request request = call.request();
+            CallTimingsRecorder timings = request.tag(CallTimingsRecorder.class);
+            if (timings == null) {
+                return EventListener.NONE;
+            }
+            timings.setHost(request.url().host());
+            return new CallEventListener(timings, metrics, request.tag(String.class));
+        };
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        timings.add(CallPhase.DNS, System.nanoTime() - dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        timings.newConnection();
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        timings.add(CallPhase.TLS, System.nanoTime() - secureConnectStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        timings.add(CallPhase.CONNECT, System.nanoTime() - connectStart);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+        timings.add(CallPhase.CONNECT, System.nanoTime() - connectStart);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        timings.set(CallPhase.CONNECTION_ACQUIRE, System.nanoTime() - callStart);
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        bytesSent += request.headers().byteCount();
+        requestWritten();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        bytesSent += byteCount;
+        requestWritten();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        if (requestEnd != 0) {
+            timings.set(CallPhase.TIME_TO_FIRST_BYTE, System.nanoTime() - requestEnd);
+        }
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        bytesReceived += response.headers().byteCount();
+        responseHeadersEnd = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        bytesReceived += byteCount;
+        if (responseHeadersEnd != 0) {
+            timings.set(CallPhase.BODY_READ, System.nanoTime() - responseHeadersEnd);
+        }
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        callDone();
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        callDone();
+    }
+
+    private void requestWritten() {
+        requestEnd = System.nanoTime();
+        timings.set(CallPhase.REQUEST_WRITE, requestEnd - requestStart);
+    }
+
+    private void callDone() {
+        timings.set(CallPhase.TOTAL, System.nanoTime() - callStart);
+        if (metrics == null || endpoint == null) {
+            return;
+        }
+        if (bytesSent > 0) {
+            metrics.bytesSent(endpoint, bytesSent);
+        }
+        if (bytesReceived > 0) {
+            metrics.bytesReceived(endpoint, bytesReceived);
+        }
+        metrics.callCompleted(endpoint, timings.snapshot());
+    }
+}
@@ -0,0 +1,48 @@
+package com.neutrinoapi.client;
+
+/**
+ * The phases of an HTTP call, as measured by {@link CallTimings}
+ */
+public enum CallPhase {
+
+    /**
+     * From the start of the call until it has a connection, either from the pool or newly connected, so includes
+     * the DNS, connect and TLS phases of a new connection
+     */
+    CONNECTION_ACQUIRE,
+
+    /**
+     * DNS lookups of the host, only for a new connection
+     */
+    DNS,
+
+    /**
+     * Connecting to the server, including the TLS handshake, only for a new connection
+     */
+    CONNECT,
+
+    /**
+     * The TLS handshake, only for a new HTTPS connection
+     */
+    TLS,
+
+    /**
+     * Writing the request headers and body
+     */
+    REQUEST_WRITE,
+
+    /**
+     * From the request being written until the response headers start to arrive, mostly server time
+     */
+    TIME_TO_FIRST_BYTE,
+
+    /**
+     * From the response headers until the response body has been read
+     */
+    BODY_READ,
+
+    /**
+     * The whole call, from start to end
+     */
+    TOTAL
+}
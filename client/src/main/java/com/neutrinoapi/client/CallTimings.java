@@ -0,0 +1,71 @@
+package com.neutrinoapi.client;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Phase timings of the HTTP call which produced an API response, see {@link APIResponse#getTimings()}
+ *
+ * <p>Phases which did not happen are not measured, e.g. a request on a pooled connection has no DNS, connect or TLS
+ * phase. Where the call connected several times (e.g. to several IP addresses of the host) the DNS, connect and TLS
+ * phases are the total of all attempts. The timings are immutable, a snapshot taken once the call ended.</p>
+ */
+public final class CallTimings {
+
+    static final long NOT_MEASURED = -1;
+    private static final CallPhase[] PHASES = CallPhase.values();
+
+    private final long[] nanos;
+    private final String host;
+    private final boolean connectionReused;
+
+    CallTimings(long[] nanos, String host, boolean connectionReused) {
+        this.nanos = nanos;
+        this.host = host;
+        this.connectionReused = connectionReused;
+    }
+
+    /**
+     * The time spent in a phase, empty if the phase did not happen
+     */
+    public Optional<Duration> get(CallPhase phase) {
+        long phaseNanos = nanos[phase.ordinal()];
+        return phaseNanos == NOT_MEASURED ? Optional.empty() : Optional.of(Duration.ofNanos(phaseNanos));
+    }
+
+    /**
+     * The time spent in a phase in nanoseconds, -1 if the phase did not happen
+     */
+    public long getNanos(CallPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * The host the call was sent to, which identifies the base URL when using an endpoint group
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Was the call sent on a pooled connection rather than a new one
+     */
+    public boolean isConnectionReused() {
+        return connectionReused;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CallTimings{host=").append(host)
+                .append(", connectionReused=").append(connectionReused);
+        for (CallPhase phase : PHASES) {
+            long phaseNanos = nanos[phase.ordinal()];
+            if (phaseNanos != NOT_MEASURED) {
+                sb.append(", ").append(phase.name().toLowerCase(Locale.ROOT))
+                        .append('=').append(String.format("%.1fms", phaseNanos / 1e6));
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
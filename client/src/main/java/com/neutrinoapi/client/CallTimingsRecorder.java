@@ -0,0 +1,43 @@
+package com.neutrinoapi.client;
+
+import java.util.Arrays;
+
+/**
+ * The phase timings of an HTTP call while it is in progress, set as a tag of each request the client builds
+ *
+ * <p>Only written by the thread running the call, the timings are handed on as an immutable {@link #snapshot()}.</p>
+ */
+final class CallTimingsRecorder {
+
+    private final long[] nanos = new long[CallPhase.values().length];
+    private String host;
+    private boolean connectionReused = true;
+
+    CallTimingsRecorder() {
+        Arrays.fill(nanos, CallTimings.NOT_MEASURED);
+    }
+
+    void setHost(String host) {
+        this.host = host;
+    }
+
+    void newConnection() {
+        connectionReused = false;
+    }
+
+    void set(CallPhase phase, long phaseNanos) {
+        nanos[phase.ordinal()] = phaseNanos;
+    }
+
+    void add(CallPhase phase, long phaseNanos) {
+        int index = phase.ordinal();
+        nanos[index] = nanos[index] == CallTimings.NOT_MEASURED ? phaseNanos : nanos[index] + phaseNanos;
+    }
+
+    /**
+     * The timings recorded so far
+     */
+    CallTimings snapshot() {
+        return new CallTimings(nanos.clone(), host, connectionReused);
+    }
+}
@@ -0,0 +1,28 @@
+package com.neutrinoapi.client;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared daemon thread firing delayed requests (hedges and retries), the requests themselves run on the dispatcher
+ */
+final class ClientScheduler {
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "neutrinoapi-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        SCHEDULER.setRemoveOnCancelPolicy(true);
+    }
+
+    private ClientScheduler() {
+    }
+
+    static ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        return SCHEDULER.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,242 @@
+package com.neutrinoapi.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive limit on the number of in-flight requests, using additive increase and multiplicative decrease (AIMD)
+ *
+ * <p>The limit is halved when the API reports too many concurrent requests (error code 6), the daily call limit
+ * (error code 2) or a 429 status, at most once for each window of requests. It grows by one for every limit's worth
+ * of successful requests while at least half of the limit is in use. Requests over the limit wait in a FIFO queue,
+ * requests which can not get a permit within the maximum queue time are rejected locally with
+ * {@link APIErrorCode#CONCURRENT} without being sent.</p>
+ *
+ * <p>Waiting never holds a monitor, so waiting virtual threads do not pin their carrier thread.</p>
+ */
+public class ConcurrencyLimiter {
+
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long maxQueueNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private final LongAdder throttledCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    // Guarded by lock
+    private double limit;
+    private int inFlight;
+    private long window;
+
+    /**
+     * Start at 20 concurrent requests, adapting between 1 and 500, queuing for at most 1 second
+     */
+    public ConcurrencyLimiter() {
+        this(20, 1, 500, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Create a concurrency limiter
+     *
+     * @param initialLimit the starting limit
+     * @param minLimit the limit never shrinks below this
+     * @param maxLimit the limit never grows above this
+     * @param maxQueueTime how long a request may wait for a permit, zero to reject immediately
+     */
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration maxQueueTime) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format("invalid limits: initial %d, min %d, max %d", initialLimit, minLimit, maxLimit));
+        }
+        if (maxQueueTime.isNegative()) {
+            throw new IllegalArgumentException("maxQueueTime < 0: " + maxQueueTime);
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueNanos = maxQueueTime.toNanos();
+    }
+
+    /**
+     * The current concurrency limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of requests currently in flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of requests waiting for a permit
+     */
+    public int getQueued() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of responses which reported the API as overloaded or over limit
+     */
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    /**
+     * Number of requests rejected locally without being sent
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Get a permit to send a request, cancel the future to stop waiting for it
+     *
+     * @return completed with the permit, or with null if the request is rejected
+     */
+    CompletableFuture<Permit> acquire() {
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (inFlight < (int) limit && waiters.isEmpty()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit(window));
+            }
+            if (maxQueueNanos == 0) {
+                rejectedCount.increment();
+                return CompletableFuture.completedFuture(null);
+            }
+            waiter = new Waiter();
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+        waiter.timeout = ClientScheduler.schedule(() -> expire(waiter), maxQueueNanos);
+        // A cancelled request gives up its place in the queue
+        waiter.future.whenComplete((permit, cause) -> {
+            if (waiter.future.isCancelled()) {
+                cancel(waiter);
+            }
+        });
+        return waiter.future;
+    }
+
+    /**
+     * Return a permit, adapting the limit to the response
+     *
+     * @param response the API response, or null if the request was cancelled or failed unexpectedly
+     */
+    void release(Permit permit, APIResponse response) {
+        List<Waiter> granted = new ArrayList<>(2);
+        long grantedWindow;
+        lock.lock();
+        try {
+            int used = inFlight;
+            inFlight--;
+            if (response != null && isThrottled(response)) {
+                throttledCount.increment();
+                // Only the first throttled response of a window shrinks the limit, the rest were already in flight
+                if (permit.window == window) {
+                    limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+                    window++;
+                }
+            } else if (response != null && response.getErrorCode() == 0 && used >= limit / 2) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                inFlight++;
+                granted.add(waiters.poll());
+            }
+            grantedWindow = window;
+        } finally {
+            lock.unlock();
+        }
+        for (Waiter waiter : granted) {
+            Future<?> timeout = waiter.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            if (!waiter.future.complete(new Permit(grantedWindow))) {
+                // Cancelled after it was granted the permit, pass it on
+                release(new Permit(grantedWindow), null);
+            }
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        boolean removed;
+        lock.lock();
+        try {
+            removed = waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+        Future<?> timeout = waiter.timeout;
+        if (removed && timeout != null) {
+            timeout.cancel(false);
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        boolean removed;
+        lock.lock();
+        try {
+            removed = waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+        if (removed) {
+            rejectedCount.increment();
+            waiter.future.complete(null);
+        }
+    }
+
+    private static boolean isThrottled(APIResponse response) {
+        int errorCode = response.getErrorCode();
+        return errorCode == APIErrorCode.CONCURRENT || errorCode == APIErrorCode.MAX_CALL_LIMIT || response.getHttpStatusCode() == 429;
+    }
+
+    /**
+     * Permission to send one request, tagged with the limit window it was granted in
+     */
+    static final class Permit {
+
+        final long window;
+
+        Permit(long window) {
+            this.window = window;
+        }
+    }
+
+    private static final class Waiter {
+
+        final CompletableFuture<Permit> future = new CompletableFuture<>();
+        volatile Future<?> timeout;
+    }
+}
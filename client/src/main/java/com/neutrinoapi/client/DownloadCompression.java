@@ -0,0 +1,13 @@
+package com.neutrinoapi.client;
+
+/**
+ * How the dataset download APIs (BIN List Download and IP Blocklist Download) are compressed on the wire
+ */
+public enum DownloadCompression {
+    /** Download uncompressed, unless the "output-encoding" parameter is given, the default */
+    NONE,
+    /** Download gzip compressed and store the file compressed, dataset checksums cover the decompressed content */
+    GZIP,
+    /** Download gzip compressed and decompress while writing the file, resumable downloads are still stored compressed */
+    GZIP_DECOMPRESSED
+}
@@ -0,0 +1,232 @@
+package com.neutrinoapi.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A group of interchangeable API base URLs, health scored by latency and error rate
+ *
+ * <p>Requests are routed to the fastest healthy base URL and fail over to the next one on connect errors, or on
+ * 5xx responses to GET requests. A base URL which fails is marked unhealthy for a cool down period which doubles
+ * with each consecutive failure, while unhealthy it is only tried once every healthy base URL has failed.</p>
+ *
+ * <p>Latency is scored separately for each request timeout, so slow APIs with a long timeout (e.g. Browser Bot) do not
+ * count against the base URL serving them, and is not scored at all for file downloads. A base URL without a latency
+ * score for the timeout sorts after those with one. So that a base URL which is not preferred still gets scored, and
+ * its score does not go stale, one request every 30 seconds is sent to the healthy base URL scored longest ago.</p>
+ *
+ * <p>A group is stateful and should be shared by a single API client.</p>
+ */
+public class EndpointGroup {
+
+    private static final double EWMA_WEIGHT = 0.2;
+    private static final long MIN_COOL_DOWN_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long MAX_COOL_DOWN_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final double UNSCORED = Double.MAX_VALUE / 2;
+    private static final double UNHEALTHY = Double.MAX_VALUE;
+
+    private final Endpoint[] endpoints;
+    private final AtomicLong nextProbeNanos = new AtomicLong(System.nanoTime() + PROBE_INTERVAL_NANOS);
+
+    /**
+     * Create an endpoint group, the base URLs are preferred in the order given until they have been health scored
+     *
+     * @param baseURLs the API base URLs
+     */
+    public EndpointGroup(List<String> baseURLs) {
+        if (baseURLs.isEmpty()) {
+            throw new IllegalArgumentException("baseURLs is empty");
+        }
+        this.endpoints = new Endpoint[baseURLs.size()];
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = new Endpoint(baseURLs.get(i), i);
+        }
+    }
+
+    /**
+     * Create an endpoint group from the given base URLs
+     */
+    public static EndpointGroup of(String... baseURLs) {
+        return new EndpointGroup(Arrays.asList(baseURLs));
+    }
+
+    /**
+     * The multicloud, AWS, GCP and backup endpoints
+     */
+    public static EndpointGroup failover() {
+        return of(NeutrinoAPIClient.MULTICLOUD_ENDPOINT, NeutrinoAPIClient.AWS_ENDPOINT,
+                NeutrinoAPIClient.GCP_ENDPOINT, NeutrinoAPIClient.BACKUP_ENDPOINT);
+    }
+
+    /**
+     * The current health of each base URL, in the order given, with the latency of the requests with the shortest
+     * timeout
+     */
+    public List<EndpointHealth> getHealth() {
+        long now = System.nanoTime();
+        List<EndpointHealth> health = new ArrayList<>(endpoints.length);
+        for (Endpoint endpoint : endpoints) {
+            synchronized (endpoint) {
+                Latency latency = endpoint.latencies.isEmpty() ? null : endpoint.latencies.firstEntry().getValue();
+                health.add(new EndpointHealth(endpoint.baseURL, latency == null ? 0 : latency.nanos / 1e6,
+                        endpoint.errorRate, endpoint.isHealthy(now), endpoint.requestCount, endpoint.failureCount));
+            }
+        }
+        return health;
+    }
+
+    /**
+     * The base URLs in the order they should be tried for a request with the given timeout
+     */
+    List<String> route(long timeoutInSeconds) {
+        if (endpoints.length == 1) {
+            return List.of(endpoints[0].baseURL);
+        }
+        List<String> baseURLs = new ArrayList<>(endpoints.length);
+        for (Endpoint endpoint : route(System.nanoTime(), timeoutInSeconds)) {
+            baseURLs.add(endpoint.baseURL);
+        }
+        return baseURLs;
+    }
+
+    /**
+     * Record a successful request to a base URL
+     *
+     * @param timeoutInSeconds the timeout of the request, latency is scored per timeout
+     * @param latencyNanos the latency of the request, or -1 if it should not be scored
+     */
+    void recordSuccess(String baseURL, long timeoutInSeconds, long latencyNanos) {
+        Endpoint endpoint = endpoint(baseURL);
+        if (endpoint != null) {
+            synchronized (endpoint) {
+                if (latencyNanos >= 0) {
+                    endpoint.latencies.computeIfAbsent(timeoutInSeconds, key -> new Latency()).record(latencyNanos, System.nanoTime());
+                }
+                endpoint.errorRate = ewma(endpoint.errorRate, 0);
+                endpoint.consecutiveFailures = 0;
+                endpoint.requestCount++;
+            }
+        }
+    }
+
+    /**
+     * Record a failed request to a base URL, marking it unhealthy
+     */
+    void recordFailure(String baseURL) {
+        Endpoint endpoint = endpoint(baseURL);
+        if (endpoint != null) {
+            synchronized (endpoint) {
+                endpoint.errorRate = ewma(endpoint.errorRate, 1);
+                long coolDown = Math.min(MAX_COOL_DOWN_NANOS, MIN_COOL_DOWN_NANOS << Math.min(endpoint.consecutiveFailures, 16));
+                endpoint.unhealthyUntil = System.nanoTime() + coolDown;
+                endpoint.consecutiveFailures++;
+                endpoint.requestCount++;
+                endpoint.failureCount++;
+            }
+        }
+    }
+
+    private List<Endpoint> route(long now, long timeoutInSeconds) {
+        List<Endpoint> ordered = new ArrayList<>(endpoints.length);
+        double[] scores = new double[endpoints.length];
+        long[] scoredAt = new long[endpoints.length];
+        for (Endpoint endpoint : endpoints) {
+            synchronized (endpoint) {
+                scores[endpoint.order] = endpoint.score(now, timeoutInSeconds);
+                Latency latency = endpoint.latencies.get(timeoutInSeconds);
+                scoredAt[endpoint.order] = latency == null ? now - 2 * PROBE_INTERVAL_NANOS : latency.sampledAtNanos;
+            }
+            ordered.add(endpoint);
+        }
+        ordered.sort(Comparator.comparingDouble((Endpoint endpoint) -> scores[endpoint.order]).thenComparingInt(endpoint -> endpoint.order));
+        long probeAt = nextProbeNanos.get();
+        if (now - probeAt >= 0 && nextProbeNanos.compareAndSet(probeAt, now + PROBE_INTERVAL_NANOS)) {
+            // Send this request first to the healthy base URL scored longest ago, if that was over an interval ago
+            Endpoint probe = null;
+            for (int i = 1; i < ordered.size(); i++) {
+                Endpoint candidate = ordered.get(i);
+                if (scores[candidate.order] != UNHEALTHY && now - scoredAt[candidate.order] >= PROBE_INTERVAL_NANOS
+                        && (probe == null || scoredAt[candidate.order] - scoredAt[probe.order] < 0)) {
+                    probe = candidate;
+                }
+            }
+            if (probe != null) {
+                ordered.remove(probe);
+                ordered.add(0, probe);
+            }
+        }
+        return ordered;
+    }
+
+    private Endpoint endpoint(String baseURL) {
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.baseURL.equals(baseURL)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private static double ewma(double average, double sample) {
+        return average + EWMA_WEIGHT * (sample - average);
+    }
+
+    /**
+     * Moving average latency of the requests to one base URL with one timeout
+     */
+    private static final class Latency {
+
+        double nanos;
+        long sampledAtNanos;
+        long samples;
+
+        void record(long latencyNanos, long now) {
+            nanos = samples == 0 ? latencyNanos : ewma(nanos, latencyNanos);
+            sampledAtNanos = now;
+            samples++;
+        }
+    }
+
+    /**
+     * Health state of one base URL, guarded by its own monitor
+     */
+    private static final class Endpoint {
+
+        final String baseURL;
+        final int order;
+        final NavigableMap<Long, Latency> latencies = new TreeMap<>();
+        double errorRate;
+        int consecutiveFailures;
+        long unhealthyUntil;
+        long requestCount;
+        long failureCount;
+
+        Endpoint(String baseURL, int order) {
+            this.baseURL = baseURL;
+            this.order = order;
+        }
+
+        boolean isHealthy(long now) {
+            return consecutiveFailures == 0 || now - unhealthyUntil >= 0;
+        }
+
+        /**
+         * Lower is better, unhealthy endpoints always sort last and endpoints without a latency score for the timeout
+         * sort after those with one
+         */
+        double score(long now, long timeoutInSeconds) {
+            if (!isHealthy(now)) {
+                return UNHEALTHY;
+            }
+            Latency latency = latencies.get(timeoutInSeconds);
+            return latency == null ? UNSCORED : latency.nanos * (1 + 4 * errorRate);
+        }
+    }
+}
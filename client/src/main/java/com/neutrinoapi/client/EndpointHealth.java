@@ -0,0 +1,71 @@
+package com.neutrinoapi.client;
+
+/**
+ * Snapshot of the health of one base URL in an endpoint group
+ */
+public class EndpointHealth {
+
+    private final String baseURL;
+    private final double latencyMillis;
+    private final double errorRate;
+    private final boolean healthy;
+    private final long requestCount;
+    private final long failureCount;
+
+    public EndpointHealth(String baseURL, double latencyMillis, double errorRate, boolean healthy, long requestCount, long failureCount) {
+        this.baseURL = baseURL;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.healthy = healthy;
+        this.requestCount = requestCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * The API base URL
+     */
+    public String getBaseURL() {
+        return baseURL;
+    }
+
+    /**
+     * Moving average of the request latency in milliseconds
+     */
+    public double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * Moving average of the error rate, between 0 and 1
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * False while the base URL is cooling down after a failure
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Number of requests sent to the base URL
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Number of requests to the base URL which failed
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EndpointHealth{baseURL=%s, latencyMillis=%.1f, errorRate=%.3f, healthy=%s, requestCount=%d, failureCount=%d}",
+                baseURL, latencyMillis, errorRate, healthy, requestCount, failureCount);
+    }
+}
@@ -0,0 +1,98 @@
+package com.neutrinoapi.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import okio.BufferedSource;
+
+/**
+ * Write a response body to a file through a direct buffer
+ *
+ * <p>Body bytes are copied once from the Okio segments into a direct buffer and written from there in large chunks,
+ * rather than through the heap buffer of {@code InputStream.transferTo} and then the native copy made by
+ * {@code FileOutputStream}. Small bodies of known length only use as much of the buffer as they need.</p>
+ *
+ * <p>Direct memory is only freed when its buffer is garbage collected, so the direct buffers are pooled and there are
+ * at most one per processor. Downloads beyond that use a heap buffer, which {@link FileChannel} writes through the
+ * JDK's own cached direct buffer.</p>
+ */
+final class FileDownload {
+
+    private static final int MAX_DIRECT_BUFFERS = Runtime.getRuntime().availableProcessors();
+    private static final BlockingQueue<ByteBuffer> POOL = new ArrayBlockingQueue<>(MAX_DIRECT_BUFFERS);
+    private static final AtomicInteger DIRECT_BUFFER_COUNT = new AtomicInteger();
+
+    private FileDownload() {
+    }
+
+    /**
+     * Write the body to the file from the given position, replacing any existing content from there on
+     *
+     * @param contentLength the body length if known, otherwise -1
+     * @param position where in the file to start writing, 0 to replace the whole file
+     * @return the number of bytes written
+     */
+    static long write(BufferedSource source, long contentLength, Path outputFilePath, long position, int bufferSize, FsyncPolicy fsync) throws IOException {
+        int capacity = contentLength >= 0 ? (int) Math.max(1, Math.min(bufferSize, contentLength)) : bufferSize;
+        ByteBuffer buffer = acquire(bufferSize, capacity);
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(outputFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(position);
+            channel.position(position);
+            boolean exhausted = false;
+            while (!exhausted) {
+                // Fill the whole buffer before writing, reads only return what one socket read delivered
+                while (buffer.hasRemaining()) {
+                    if (source.read(buffer) == -1) {
+                        exhausted = true;
+                        break;
+                    }
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            if (fsync != FsyncPolicy.NEVER) {
+                channel.force(fsync == FsyncPolicy.DATA_AND_METADATA);
+            }
+        } finally {
+            release(buffer);
+        }
+        return written;
+    }
+
+    /**
+     * A pooled direct buffer of at least the buffer size, or a heap buffer if all direct buffers are in use, limited
+     * to the capacity
+     */
+    private static ByteBuffer acquire(int bufferSize, int capacity) {
+        ByteBuffer buffer = POOL.poll();
+        if (buffer != null && buffer.capacity() >= bufferSize) {
+            buffer.clear().limit(capacity);
+            return buffer;
+        }
+        if (buffer != null) {
+            // Pooled by a client with a smaller buffer size, let it be collected
+            DIRECT_BUFFER_COUNT.decrementAndGet();
+        }
+        if (DIRECT_BUFFER_COUNT.incrementAndGet() <= MAX_DIRECT_BUFFERS) {
+            return ByteBuffer.allocateDirect(bufferSize).limit(capacity);
+        }
+        DIRECT_BUFFER_COUNT.decrementAndGet();
+        return ByteBuffer.allocate(capacity);
+    }
+
+    private static void release(ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            // Always fits, there are never more direct buffers than the pool holds
+            POOL.offer(buffer);
+        }
+    }
+}
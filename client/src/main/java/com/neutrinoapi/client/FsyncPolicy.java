@@ -0,0 +1,13 @@
+package com.neutrinoapi.client;
+
+/**
+ * When downloaded files are forced to storage before the response is returned
+ */
+public enum FsyncPolicy {
+    /** Leave flushing to the operating system, the default */
+    NEVER,
+    /** Force the file content to storage, like fdatasync */
+    DATA,
+    /** Force the file content and metadata to storage, like fsync */
+    DATA_AND_METADATA
+}
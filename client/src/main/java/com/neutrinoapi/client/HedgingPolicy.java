@@ -0,0 +1,143 @@
+package com.neutrinoapi.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedge the fast lookup APIs, sending a second request to an alternate endpoint when the first is slow
+ *
+ * <p>Hedging applies to GET requests using the 10 second timeout profile (IP Info, IP Blocklist, BIN Lookup,
+ * UA Lookup, Phone Validate and Convert). When a request has not completed after the configured percentile of the
+ * recent latency of its API, the same request is sent to the next base URL of the endpoint group, the first
+ * successful response is used and the other request is cancelled. No request is hedged until its API has enough
+ * latency samples, and hedges are capped to a fraction of all requests.</p>
+ */
+public class HedgingPolicy {
+
+    private static final int SAMPLES = 256;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_INTERVAL = 32;
+    private static final long MAX_BURST_HEDGES = 10;
+
+    private final double percentile;
+    private final RequestBudget budget;
+    private final long minDelayNanos;
+    private final Map<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder hedgeCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+
+    /**
+     * Hedge after the 95th percentile latency, for at most 5% of requests, waiting at least 5ms
+     */
+    public HedgingPolicy() {
+        this(0.95, 0.05, Duration.ofMillis(5));
+    }
+
+    /**
+     * Create a hedging policy
+     *
+     * @param percentile the latency percentile after which a request is hedged, e.g. 0.95
+     * @param budget the maximum fraction of requests which may be hedged, e.g. 0.05
+     * @param minDelay the minimum time to wait before hedging
+     */
+    public HedgingPolicy(double percentile, double budget, Duration minDelay) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile not in (0, 1): " + percentile);
+        }
+        if (budget <= 0 || budget > 1) {
+            throw new IllegalArgumentException("budget not in (0, 1]: " + budget);
+        }
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("minDelay < 0: " + minDelay);
+        }
+        this.percentile = percentile;
+        this.budget = new RequestBudget(budget, MAX_BURST_HEDGES);
+        this.minDelayNanos = minDelay.toNanos();
+    }
+
+    /**
+     * Number of requests eligible for hedging
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Number of hedge requests sent
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    /**
+     * Number of hedge requests which completed before the original request
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    /**
+     * Count a request towards the hedging budget and get how long to wait before hedging it
+     *
+     * @return the hedge delay in nanoseconds, or -1 if the request should not be hedged
+     */
+    long startRequest(String endpoint) {
+        requestCount.increment();
+        budget.deposit();
+        LatencyTracker tracker = latencies.get(endpoint);
+        long delay = tracker == null ? -1 : tracker.delayNanos;
+        return delay < 0 ? -1 : Math.max(minDelayNanos, delay);
+    }
+
+    /**
+     * Take a hedge from the budget, returns false if the budget is used up
+     */
+    boolean tryHedge() {
+        if (!budget.tryWithdraw()) {
+            return false;
+        }
+        hedgeCount.increment();
+        return true;
+    }
+
+    void recordHedgeWin() {
+        hedgeWinCount.increment();
+    }
+
+    /**
+     * Record the latency of an original (not hedged) request
+     */
+    void recordLatency(String endpoint, long latencyNanos) {
+        latencies.computeIfAbsent(endpoint, key -> new LatencyTracker()).record(latencyNanos, percentile);
+    }
+
+    /**
+     * The most recent latencies of one API, with the hedge delay recomputed every few samples
+     */
+    private static final class LatencyTracker {
+
+        final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+        final AtomicLong count = new AtomicLong();
+        volatile long delayNanos = -1;
+
+        void record(long latencyNanos, double percentile) {
+            long recorded = count.incrementAndGet();
+            samples.lazySet((int) ((recorded - 1) & (SAMPLES - 1)), latencyNanos);
+            if (recorded >= MIN_SAMPLES && recorded % RECOMPUTE_INTERVAL == 0) {
+                int size = (int) Math.min(recorded, SAMPLES);
+                long[] sorted = new long[size];
+                for (int i = 0; i < size; i++) {
+                    sorted[i] = samples.get(i);
+                }
+                Arrays.sort(sorted);
+                delayNanos = sorted[Math.min(size - 1, (int) (percentile * size))];
+            }
+        }
+    }
+}
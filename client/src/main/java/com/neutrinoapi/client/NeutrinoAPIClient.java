@@ -0,0 +1,2373 @@
+package com.neutrinoapi.client;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.MalformedJsonException;
+import com.neutrinoapi.client.cache.CacheKey;
+import com.neutrinoapi.client.cache.ResponseCache;
+import com.neutrinoapi.client.metrics.ClientMetrics;
+import com.neutrinoapi.client.model.BINLookupResult;
+import com.neutrinoapi.client.model.EmailValidateResult;
+import com.neutrinoapi.client.model.IPBlocklistResult;
+import com.neutrinoapi.client.model.IPInfoResult;
+import com.neutrinoapi.client.model.ResponseModels;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLHandshakeException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.FormBody;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient.Builder;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Make a request to the Neutrino API
+ *
+ * <p>Synchronous requests run on the calling thread, asynchronous requests on the dispatcher's executor. A client
+ * built with {@link #builder(String, String)} owns its connection pool and dispatcher, and should be closed when no
+ * longer needed. Clients created with a constructor share one HTTP client, closing them does nothing.</p>
+ */
+public class NeutrinoAPIClient implements AutoCloseable {
+
+    public static final String MULTICLOUD_ENDPOINT = "https://neutrinoapi.net/";
+    public static final String AWS_ENDPOINT = "https://aws.neutrinoapi.net/";
+    public static final String GCP_ENDPOINT = "https://gcp.neutrinoapi.net/";
+    public static final String BACKUP_ENDPOINT = "https://neutrinoapi.com/";
+    public static final String EU_GEOFENCE_ENDPOINT = "https://eu.neutrinoapi.net/";
+    public static final String AU_GEOFENCE_ENDPOINT = "https://aus.neutrinoapi.net/";
+    public static final String US_GEOFENCE_ENDPOINT = "https://usa.neutrinoapi.net/";
+
+    private static final long CONNECT_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+    private static final long[] TIMEOUT_PROFILES_IN_SECONDS = {10L, 30L, 300L};
+    private static final long STREAMING_JSON_THRESHOLD = 8 * 1024;
+    private static final int DEFAULT_BATCH_CONCURRENCY = 5;
+    static final int DEFAULT_DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Account level errors which every request in a batch would fail with
+     */
+    private static final Set<Integer> BATCH_ERROR_CODES = Set.of(
+            APIErrorCode.MAX_CALL_LIMIT,
+            APIErrorCode.ABUSE_DETECTED,
+            APIErrorCode.NOT_VERIFIED,
+            APIErrorCode.ACCESS_DENIED,
+            APIErrorCode.FREE_LIMIT,
+            APIErrorCode.CREDIT_LIMIT_REACHED,
+            APIErrorCode.NOT_MULTI_ENABLED,
+            APIErrorCode.NO_BATCH_MODE,
+            APIErrorCode.BATCH_LIMIT_EXCEEDED,
+            APIErrorCode.USER_DEFINED_DAILY_LIMIT,
+            APIErrorCode.ACCESS_FORBIDDEN);
+
+    private final String userID;
+    private final String apiKey;
+    private final String baseURL;
+    private final EndpointGroup endpointGroup;
+    private final HedgingPolicy hedgingPolicy;
+    private final RetryPolicy retryPolicy;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final RequestCoalescer requestCoalescer;
+    private final int batchConcurrency;
+    private final int downloadBufferSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final DownloadCompression downloadCompression;
+    private final RequestTemplates requestTemplates;
+    private final OkHttpClient httpClient;
+    private final Map<Long, OkHttpClient> timeoutProfiles;
+    private final ResponseCache cache;
+    private final Map<String, Duration> cacheTTLs;
+    private final ClientMetrics metrics;
+    private final boolean ownsHttpClient;
+    private final boolean ownsExecutor;
+
+    private static final OkHttpClient HttpClient = new Builder()
+            .connectTimeout(Duration.ofMillis(CONNECT_TIMEOUT_MS))
+            .eventListenerFactory(CallEventListener.factory(null))
+            .build();
+
+    /**
+     * Initialize API client
+     *
+     * @param userID from Neutrino API admin
+     * @param APIKey from Neutrino API admin
+     */
+    public NeutrinoAPIClient(String userID, String APIKey) {
+        this(userID, APIKey, MULTICLOUD_ENDPOINT);
+    }
+
+    /**
+     * Initialize API client, with base-URL
+     *
+     * @param userID from Neutrino API admin
+     * @param APIKey from Neutrino API admin
+     * @param baseURL overrides the API's baseURL default
+     */
+    public NeutrinoAPIClient(String userID, String APIKey, String baseURL) {
+        this.userID = userID;
+        this.apiKey = APIKey;
+        this.baseURL = baseURL;
+        this.endpointGroup = null;
+        this.hedgingPolicy = null;
+        this.retryPolicy = null;
+        this.concurrencyLimiter = null;
+        this.requestCoalescer = null;
+        this.batchConcurrency = DEFAULT_BATCH_CONCURRENCY;
+        this.downloadBufferSize = DEFAULT_DOWNLOAD_BUFFER_SIZE;
+        this.fsyncPolicy = FsyncPolicy.NEVER;
+        this.downloadCompression = DownloadCompression.NONE;
+        this.requestTemplates = new RequestTemplates(userID, APIKey);
+        this.httpClient = HttpClient;
+        this.timeoutProfiles = buildTimeoutProfiles(httpClient);
+        this.cache = null;
+        this.cacheTTLs = Map.of();
+        this.metrics = null;
+        this.ownsHttpClient = false;
+        this.ownsExecutor = false;
+    }
+
+    /**
+     * Initialize API client from the builder options
+     */
+    NeutrinoAPIClient(NeutrinoAPIClientBuilder builder) {
+        this.userID = builder.userID;
+        this.apiKey = builder.apiKey;
+        this.baseURL = builder.baseURL;
+        this.endpointGroup = builder.endpointGroup;
+        this.hedgingPolicy = builder.hedgingPolicy;
+        this.retryPolicy = builder.retryPolicy;
+        this.concurrencyLimiter = builder.concurrencyLimiter;
+        this.requestCoalescer = builder.requestCoalescer;
+        this.batchConcurrency = builder.batchConcurrency > 0 ? builder.batchConcurrency : builder.maxRequestsPerHost;
+        this.downloadBufferSize = builder.downloadBufferSize;
+        this.fsyncPolicy = builder.fsyncPolicy;
+        this.downloadCompression = builder.downloadCompression;
+        this.requestTemplates = new RequestTemplates(userID, apiKey);
+        this.httpClient = builder.buildHttpClient();
+        this.timeoutProfiles = buildTimeoutProfiles(httpClient);
+        this.cache = builder.cache;
+        this.cacheTTLs = Map.copyOf(builder.cacheTTLs);
+        this.metrics = builder.metrics;
+        this.ownsHttpClient = true;
+        this.ownsExecutor = builder.executor == null;
+    }
+
+    /**
+     * Build an API client with configurable connection pool and dispatcher limits
+     *
+     * @param userID from Neutrino API admin
+     * @param APIKey from Neutrino API admin
+     * @return NeutrinoAPIClientBuilder
+     */
+    public static NeutrinoAPIClientBuilder builder(String userID, String APIKey) {
+        return new NeutrinoAPIClientBuilder(userID, APIKey);
+    }
+
+    /**
+     * The endpoint group requests are routed across, empty if all requests go to the single base URL
+     */
+    public Optional<EndpointGroup> getEndpointGroup() {
+        return Optional.ofNullable(endpointGroup);
+    }
+
+    /**
+     * The hedging policy of the fast lookup APIs, empty if requests are not hedged
+     */
+    public Optional<HedgingPolicy> getHedgingPolicy() {
+        return Optional.ofNullable(hedgingPolicy);
+    }
+
+    /**
+     * The retry policy, empty if failed requests are not retried
+     */
+    public Optional<RetryPolicy> getRetryPolicy() {
+        return Optional.ofNullable(retryPolicy);
+    }
+
+    /**
+     * The adaptive concurrency limiter, empty if in-flight requests are not limited
+     */
+    public Optional<ConcurrencyLimiter> getConcurrencyLimiter() {
+        return Optional.ofNullable(concurrencyLimiter);
+    }
+
+    /**
+     * The request coalescer, empty if identical concurrent requests are each sent
+     */
+    public Optional<RequestCoalescer> getRequestCoalescer() {
+        return Optional.ofNullable(requestCoalescer);
+    }
+
+    /**
+     * The client metrics, empty if no metrics are recorded
+     */
+    public Optional<ClientMetrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+
+    /**
+     * The shared HTTP client used by API clients not created via the builder
+     */
+    static OkHttpClient defaultHttpClient() {
+        return HttpClient;
+    }
+
+    /**
+     * Release the connection pool and dispatcher threads of a client built with {@link #builder(String, String)}
+     *
+     * <p>Requests already in flight complete. The executor is shut down, so later asynchronous requests fail, unless
+     * it was given with {@link NeutrinoAPIClientBuilder#executor(java.util.concurrent.ExecutorService)}. Does nothing
+     * for clients created with a constructor, which share the default HTTP client.</p>
+     */
+    @Override
+    public void close() {
+        if (!ownsHttpClient) {
+            return;
+        }
+        if (ownsExecutor) {
+            httpClient.dispatcher().executorService().shutdown();
+        }
+        httpClient.connectionPool().evictAll();
+    }
+
+    /**
+     * Detect bad words, swear words and profanity in a given text
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"censor-character" - The character to use to censor out the bad words found</li>
+     * <li>"catalog" - Which catalog of bad words to use</li>
+     * <li>"content" - The content to scan</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bad-word-filter">Documentation</a>
+     */
+    public APIResponse badWordFilter(Map<String, String> params) {
+        return execRequest("POST", "bad-word-filter", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #badWordFilter(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bad-word-filter">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> badWordFilterAsync(Map<String, String> params) {
+        return execRequestAsync("POST", "bad-word-filter", params, null, 30L);
+    }
+
+    /**
+     * Download our entire BIN database for direct use on your own systems
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"include-iso3" - Include ISO 3-letter country codes and ISO 3-letter currency codes in the data</li>
+     * <li>"include-8digit" - Include 8-digit and higher BIN codes</li>
+     * <li>"include-all" - Include all BINs and all available fields in the CSV file (overrides any values set for 'include-iso3' or 'include-8digit')</li>
+     * <li>"output-encoding" - Set this option to 'gzip' to have the output file compressed using gzip</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bin-list-download">Documentation</a>
+     */
+    public APIResponse binListDownload(Map<String, String> params, Path outputFilePath) {
+        return execRequest("POST", "bin-list-download", datasetParams(params), datasetOutput(outputFilePath), 30L, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #binListDownload(Map, Path)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bin-list-download">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> binListDownloadAsync(Map<String, String> params, Path outputFilePath) {
+        return execRequestAsync("POST", "bin-list-download", datasetParams(params), datasetOutput(outputFilePath), 30L, null);
+    }
+
+    /**
+     * Resumable variant of {@link #binListDownload(Map, Path)}, downloading to a ".part" file which a failed download resumes
+     * from with a Range request, either on retry or on the next call, as long as the file has not changed since. The
+     * request is sent as a GET so it can carry a Range
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored once complete
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bin-list-download">Documentation</a>
+     */
+    public APIResponse binListDownloadResumable(Map<String, String> params, Path outputFilePath) {
+        return execRequest("GET", "bin-list-download", datasetParams(params), ResponseOutput.toResumableFile(outputFilePath, downloadBufferSize, fsyncPolicy), 30L, null);
+    }
+
+    /**
+     * Perform a BIN (Bank Identification Number) or IIN (Issuer Identification Number) lookup
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"bin-number" - The BIN or IIN number</li>
+     * <li>"customer-ip" - Pass in the customers IP address and we will return some extra information about them</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bin-lookup">Documentation</a>
+     */
+    public APIResponse binLookup(Map<String, String> params) {
+        return execRequest("GET", "bin-lookup", params, null, 10L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #binLookup(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bin-lookup">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> binLookupAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "bin-lookup", params, null, 10L);
+    }
+
+    /**
+     * Typed variant of {@link #binLookup(Map)}, reading the response directly into a {@link BINLookupResult}
+     *
+     * @param params The API request parameters
+     * @return TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bin-lookup">Documentation</a>
+     */
+    public TypedAPIResponse<BINLookupResult> binLookupResult(Map<String, String> params) {
+        return TypedAPIResponse.of(execRequest("GET", "bin-lookup", params, null, 10L, BINLookupResult.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #binLookupResult(Map)}
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/bin-lookup">Documentation</a>
+     */
+    public CompletableFuture<TypedAPIResponse<BINLookupResult>> binLookupResultAsync(Map<String, String> params) {
+        return typed(execRequestAsync("GET", "bin-lookup", params, null, 10L, BINLookupResult.class));
+    }
+
+    /**
+     * Batch variant of {@link #binLookup(Map)}, sending the requests concurrently and identical requests only once
+     *
+     * @param paramsList The API request parameters of each request
+     * @return the APIResponse of each request, in the same order
+     * @see <a href="https://www.neutrinoapi.com/api/bin-lookup">Documentation</a>
+     */
+    public List<APIResponse> binLookupBatch(List<Map<String, String>> paramsList) {
+        return execBatch("bin-lookup", paramsList, this::binLookupAsync);
+    }
+
+    /**
+     * Browser bot can extract content, interact with keyboard and mouse events, and execute JavaScript on a website
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"delay" - Delay in seconds to wait before capturing any page data</li>
+     * <li>"ignore-certificate-errors" - Ignore any TLS/SSL certificate errors and load the page anyway</li>
+     * <li>"selector" - Extract content from the page DOM using this selector</li>
+     * <li>"url" - The URL to load</li>
+     * <li>"timeout" - Timeout in seconds</li>
+     * <li>"exec" - Execute JavaScript on the website</li>
+     * <li>"user-agent" - Override the browsers default user-agent string with this one</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/browser-bot">Documentation</a>
+     */
+    public APIResponse browserBot(Map<String, String> params) {
+        return execRequest("POST", "browser-bot", params, null, 300L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #browserBot(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/browser-bot">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> browserBotAsync(Map<String, String> params) {
+        return execRequestAsync("POST", "browser-bot", params, null, 300L);
+    }
+
+    /**
+     * A currency and unit conversion tool
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"from-value" - The value to convert from (e.g. 10.95)</li>
+     * <li>"from-type" - The type of the value to convert from (e.g. USD)</li>
+     * <li>"to-type" - The type to convert to (e.g. EUR)</li>
+     * <li>"historical-date" - Convert using the rate on a historical date</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/convert">Documentation</a>
+     */
+    public APIResponse convert(Map<String, String> params) {
+        return execRequest("GET", "convert", params, null, 10L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #convert(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/convert">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> convertAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "convert", params, null, 10L);
+    }
+
+    /**
+     * Retrieve domain name details and detect potentially malicious or dangerous domains
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"host" - A domain name</li>
+     * <li>"live" - For domains that we have never seen before then perform various live checks and realtime reconnaissance</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/domain-lookup">Documentation</a>
+     */
+    public APIResponse domainLookup(Map<String, String> params) {
+        return execRequest("GET", "domain-lookup", params, null, 300L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #domainLookup(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/domain-lookup">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> domainLookupAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "domain-lookup", params, null, 300L);
+    }
+
+    /**
+     * Parse, validate and clean an email address
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"email" - An email address</li>
+     * <li>"fix-typos" - Automatically attempt to fix typos in the address</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/email-validate">Documentation</a>
+     */
+    public APIResponse emailValidate(Map<String, String> params) {
+        return execRequest("GET", "email-validate", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #emailValidate(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/email-validate">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> emailValidateAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "email-validate", params, null, 30L);
+    }
+
+    /**
+     * Typed variant of {@link #emailValidate(Map)}, reading the response directly into a {@link EmailValidateResult}
+     *
+     * @param params The API request parameters
+     * @return TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/email-validate">Documentation</a>
+     */
+    public TypedAPIResponse<EmailValidateResult> emailValidateResult(Map<String, String> params) {
+        return TypedAPIResponse.of(execRequest("GET", "email-validate", params, null, 30L, EmailValidateResult.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #emailValidateResult(Map)}
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/email-validate">Documentation</a>
+     */
+    public CompletableFuture<TypedAPIResponse<EmailValidateResult>> emailValidateResultAsync(Map<String, String> params) {
+        return typed(execRequestAsync("GET", "email-validate", params, null, 30L, EmailValidateResult.class));
+    }
+
+    /**
+     * Batch variant of {@link #emailValidate(Map)}, sending the requests concurrently and identical requests only once
+     *
+     * @param paramsList The API request parameters of each request
+     * @return the APIResponse of each request, in the same order
+     * @see <a href="https://www.neutrinoapi.com/api/email-validate">Documentation</a>
+     */
+    public List<APIResponse> emailValidateBatch(List<Map<String, String>> paramsList) {
+        return execBatch("email-validate", paramsList, this::emailValidateAsync);
+    }
+
+    /**
+     * SMTP based email address verification
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"email" - An email address</li>
+     * <li>"fix-typos" - Automatically attempt to fix typos in the address</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/email-verify">Documentation</a>
+     */
+    public APIResponse emailVerify(Map<String, String> params) {
+        return execRequest("GET", "email-verify", params, null, 300L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #emailVerify(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/email-verify">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> emailVerifyAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "email-verify", params, null, 300L);
+    }
+
+    /**
+     * Geocode an address, partial address or just the name of a place
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"address" - The full address</li>
+     * <li>"house-number" - The house/building number to locate</li>
+     * <li>"street" - The street/road name to locate</li>
+     * <li>"city" - The city/town name to locate</li>
+     * <li>"county" - The county/region name to locate</li>
+     * <li>"state" - The state name to locate</li>
+     * <li>"postal-code" - The postal code to locate</li>
+     * <li>"country-code" - Limit result to this country (the default is no country bias)</li>
+     * <li>"language-code" - The language to display results in</li>
+     * <li>"fuzzy-search" - If no matches are found for the given address</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/geocode-address">Documentation</a>
+     */
+    public APIResponse geocodeAddress(Map<String, String> params) {
+        return execRequest("GET", "geocode-address", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #geocodeAddress(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/geocode-address">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> geocodeAddressAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "geocode-address", params, null, 30L);
+    }
+
+    /**
+     * Convert a geographic coordinate (latitude and longitude) into a real world address
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"latitude" - The location latitude in decimal degrees format</li>
+     * <li>"longitude" - The location longitude in decimal degrees format</li>
+     * <li>"language-code" - The language to display results in</li>
+     * <li>"zoom" - The zoom level to respond with: address - the most precise address available street - the street level city - the city level state - the state level country - the country level </li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/geocode-reverse">Documentation</a>
+     */
+    public APIResponse geocodeReverse(Map<String, String> params) {
+        return execRequest("GET", "geocode-reverse", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #geocodeReverse(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/geocode-reverse">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> geocodeReverseAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "geocode-reverse", params, null, 30L);
+    }
+
+    /**
+     * Connect to the global mobile cellular network and retrieve the status of a mobile device
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"number" - A phone number</li>
+     * <li>"country-code" - ISO 2-letter country code</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/hlr-lookup">Documentation</a>
+     */
+    public APIResponse hlrLookup(Map<String, String> params) {
+        return execRequest("GET", "hlr-lookup", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #hlrLookup(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/hlr-lookup">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> hlrLookupAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "hlr-lookup", params, null, 30L);
+    }
+
+    /**
+     * Check the reputation of an IP address, domain name or URL against a comprehensive list of blacklists and blocklists
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"host" - An IP address</li>
+     * <li>"list-rating" - Only check lists with this rating or better</li>
+     * <li>"zones" - Only check these DNSBL zones/hosts</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/host-reputation">Documentation</a>
+     */
+    public APIResponse hostReputation(Map<String, String> params) {
+        return execRequest("GET", "host-reputation", params, null, 300L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #hostReputation(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/host-reputation">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> hostReputationAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "host-reputation", params, null, 300L);
+    }
+
+    /**
+     * Clean and sanitize untrusted HTML
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"output-type" - The level of sanitization</li>
+     * <li>"content" - The HTML content</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-clean">Documentation</a>
+     */
+    public APIResponse htmlClean(Map<String, String> params, Path outputFilePath) {
+        return execRequest("POST", "html-clean", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #htmlClean(Map, Path)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-clean">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> htmlCleanAsync(Map<String, String> params, Path outputFilePath) {
+        return execRequestAsync("POST", "html-clean", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Variant of {@link #htmlClean(Map, Path)} writing the output to a stream, which is flushed but not closed
+     *
+     * @param params The API request parameters
+     * @param outputStream to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-clean">Documentation</a>
+     */
+    public APIResponse htmlClean(Map<String, String> params, OutputStream outputStream) {
+        return htmlClean(params, BodyConsumer.to(outputStream));
+    }
+
+    /**
+     * Variant of {@link #htmlClean(Map, Path)} writing the output to a channel, which is not closed
+     *
+     * @param params The API request parameters
+     * @param channel to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-clean">Documentation</a>
+     */
+    public APIResponse htmlClean(Map<String, String> params, WritableByteChannel channel) {
+        return htmlClean(params, BodyConsumer.to(channel));
+    }
+
+    /**
+     * Variant of {@link #htmlClean(Map, Path)} streaming the output to a consumer as it arrives
+     *
+     * @param params The API request parameters
+     * @param consumer reads the output
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-clean">Documentation</a>
+     */
+    public APIResponse htmlClean(Map<String, String> params, BodyConsumer consumer) {
+        return execRequest("POST", "html-clean", params, ResponseOutput.toConsumer(consumer), 30L, null);
+    }
+
+    /**
+     * Render HTML content to PDF, JPG or PNG
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"css" - Inject custom CSS into the HTML</li>
+     * <li>"footer" - The footer HTML to insert into each page</li>
+     * <li>"title" - The document title</li>
+     * <li>"content" - The HTML content</li>
+     * <li>"page-width" - Set the PDF page width explicitly (in mm)</li>
+     * <li>"timeout" - Timeout in seconds</li>
+     * <li>"grayscale" - Render the final document in grayscale</li>
+     * <li>"margin-left" - The document left margin (in mm)</li>
+     * <li>"page-size" - Set the document page size</li>
+     * <li>"ignore-certificate-errors" - Ignore any TLS/SSL certificate errors</li>
+     * <li>"page-height" - Set the PDF page height explicitly (in mm)</li>
+     * <li>"margin-top" - The document top margin (in mm)</li>
+     * <li>"bg-color" - For image rendering set the background color in hexadecimal notation (e.g. #0000ff)</li>
+     * <li>"margin" - The document margin (in mm)</li>
+     * <li>"image-width" - If rendering to an image format (PNG or JPG) use this image width (in pixels)</li>
+     * <li>"format" - Which format to output</li>
+     * <li>"zoom" - Set the zoom factor when rendering the page (2.0 for double size</li>
+     * <li>"margin-right" - The document right margin (in mm)</li>
+     * <li>"delay" - Number of seconds to wait before rendering the page (can be useful for pages with animations etc)</li>
+     * <li>"image-height" - If rendering to an image format (PNG or JPG) use this image height (in pixels)</li>
+     * <li>"header" - The header HTML to insert into each page</li>
+     * <li>"margin-bottom" - The document bottom margin (in mm)</li>
+     * <li>"landscape" - Set the document to landscape orientation</li>
+     * <li>"exec" - Execute JavaScript on the website</li>
+     * <li>"user-agent" - Override the browsers default user-agent string with this one</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-render">Documentation</a>
+     */
+    public APIResponse htmlRender(Map<String, String> params, Path outputFilePath) {
+        return execRequest("POST", "html-render", params, outputFilePath, 300L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #htmlRender(Map, Path)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-render">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> htmlRenderAsync(Map<String, String> params, Path outputFilePath) {
+        return execRequestAsync("POST", "html-render", params, outputFilePath, 300L);
+    }
+
+    /**
+     * Variant of {@link #htmlRender(Map, Path)} writing the output to a stream, which is flushed but not closed
+     *
+     * @param params The API request parameters
+     * @param outputStream to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-render">Documentation</a>
+     */
+    public APIResponse htmlRender(Map<String, String> params, OutputStream outputStream) {
+        return htmlRender(params, BodyConsumer.to(outputStream));
+    }
+
+    /**
+     * Variant of {@link #htmlRender(Map, Path)} writing the output to a channel, which is not closed
+     *
+     * @param params The API request parameters
+     * @param channel to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-render">Documentation</a>
+     */
+    public APIResponse htmlRender(Map<String, String> params, WritableByteChannel channel) {
+        return htmlRender(params, BodyConsumer.to(channel));
+    }
+
+    /**
+     * Variant of {@link #htmlRender(Map, Path)} streaming the output to a consumer as it arrives
+     *
+     * @param params The API request parameters
+     * @param consumer reads the output
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/html-render">Documentation</a>
+     */
+    public APIResponse htmlRender(Map<String, String> params, BodyConsumer consumer) {
+        return execRequest("POST", "html-render", params, ResponseOutput.toConsumer(consumer), 300L, null);
+    }
+
+    /**
+     * Resize an image and output as either JPEG or PNG
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"resize-mode" - The resize mode to use</li>
+     * <li>"width" - The width to resize to (in px)</li>
+     * <li>"format" - The output image format</li>
+     * <li>"image-url" - The URL or Base64 encoded Data URL for the source image</li>
+     * <li>"bg-color" - The image background color in hexadecimal notation (e.g. #0000ff)</li>
+     * <li>"height" - The height to resize to (in px)</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-resize">Documentation</a>
+     */
+    public APIResponse imageResize(Map<String, String> params, Path outputFilePath) {
+        return execRequest("POST", "image-resize", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #imageResize(Map, Path)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-resize">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> imageResizeAsync(Map<String, String> params, Path outputFilePath) {
+        return execRequestAsync("POST", "image-resize", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Variant of {@link #imageResize(Map, Path)} writing the output to a stream, which is flushed but not closed
+     *
+     * @param params The API request parameters
+     * @param outputStream to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-resize">Documentation</a>
+     */
+    public APIResponse imageResize(Map<String, String> params, OutputStream outputStream) {
+        return imageResize(params, BodyConsumer.to(outputStream));
+    }
+
+    /**
+     * Variant of {@link #imageResize(Map, Path)} writing the output to a channel, which is not closed
+     *
+     * @param params The API request parameters
+     * @param channel to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-resize">Documentation</a>
+     */
+    public APIResponse imageResize(Map<String, String> params, WritableByteChannel channel) {
+        return imageResize(params, BodyConsumer.to(channel));
+    }
+
+    /**
+     * Variant of {@link #imageResize(Map, Path)} streaming the output to a consumer as it arrives
+     *
+     * @param params The API request parameters
+     * @param consumer reads the output
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-resize">Documentation</a>
+     */
+    public APIResponse imageResize(Map<String, String> params, BodyConsumer consumer) {
+        return execRequest("POST", "image-resize", params, ResponseOutput.toConsumer(consumer), 30L, null);
+    }
+
+    /**
+     * Watermark one image with another image
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"resize-mode" - The resize mode to use</li>
+     * <li>"format" - The output image format</li>
+     * <li>"width" - If set resize the resulting image to this width (in px)</li>
+     * <li>"image-url" - The URL or Base64 encoded Data URL for the source image</li>
+     * <li>"position" - The position of the watermark image</li>
+     * <li>"watermark-url" - The URL or Base64 encoded Data URL for the watermark image</li>
+     * <li>"opacity" - The opacity of the watermark (0 to 100)</li>
+     * <li>"bg-color" - The image background color in hexadecimal notation (e.g. #0000ff)</li>
+     * <li>"height" - If set resize the resulting image to this height (in px)</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-watermark">Documentation</a>
+     */
+    public APIResponse imageWatermark(Map<String, String> params, Path outputFilePath) {
+        return execRequest("POST", "image-watermark", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #imageWatermark(Map, Path)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-watermark">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> imageWatermarkAsync(Map<String, String> params, Path outputFilePath) {
+        return execRequestAsync("POST", "image-watermark", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Variant of {@link #imageWatermark(Map, Path)} writing the output to a stream, which is flushed but not closed
+     *
+     * @param params The API request parameters
+     * @param outputStream to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-watermark">Documentation</a>
+     */
+    public APIResponse imageWatermark(Map<String, String> params, OutputStream outputStream) {
+        return imageWatermark(params, BodyConsumer.to(outputStream));
+    }
+
+    /**
+     * Variant of {@link #imageWatermark(Map, Path)} writing the output to a channel, which is not closed
+     *
+     * @param params The API request parameters
+     * @param channel to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-watermark">Documentation</a>
+     */
+    public APIResponse imageWatermark(Map<String, String> params, WritableByteChannel channel) {
+        return imageWatermark(params, BodyConsumer.to(channel));
+    }
+
+    /**
+     * Variant of {@link #imageWatermark(Map, Path)} streaming the output to a consumer as it arrives
+     *
+     * @param params The API request parameters
+     * @param consumer reads the output
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/image-watermark">Documentation</a>
+     */
+    public APIResponse imageWatermark(Map<String, String> params, BodyConsumer consumer) {
+        return execRequest("POST", "image-watermark", params, ResponseOutput.toConsumer(consumer), 30L, null);
+    }
+
+    /**
+     * The IP Blocklist API will detect potentially malicious or dangerous IP addresses
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"ip" - An IPv4 or IPv6 address</li>
+     * <li>"vpn-lookup" - Include public VPN provider IP addresses</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist">Documentation</a>
+     */
+    public APIResponse ipBlocklist(Map<String, String> params) {
+        return execRequest("GET", "ip-blocklist", params, null, 10L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #ipBlocklist(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> ipBlocklistAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "ip-blocklist", params, null, 10L);
+    }
+
+    /**
+     * Typed variant of {@link #ipBlocklist(Map)}, reading the response directly into a {@link IPBlocklistResult}
+     *
+     * @param params The API request parameters
+     * @return TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist">Documentation</a>
+     */
+    public TypedAPIResponse<IPBlocklistResult> ipBlocklistResult(Map<String, String> params) {
+        return TypedAPIResponse.of(execRequest("GET", "ip-blocklist", params, null, 10L, IPBlocklistResult.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #ipBlocklistResult(Map)}
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist">Documentation</a>
+     */
+    public CompletableFuture<TypedAPIResponse<IPBlocklistResult>> ipBlocklistResultAsync(Map<String, String> params) {
+        return typed(execRequestAsync("GET", "ip-blocklist", params, null, 10L, IPBlocklistResult.class));
+    }
+
+    /**
+     * Batch variant of {@link #ipBlocklist(Map)}, sending the requests concurrently and identical requests only once
+     *
+     * @param paramsList The API request parameters of each request
+     * @return the APIResponse of each request, in the same order
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist">Documentation</a>
+     */
+    public List<APIResponse> ipBlocklistBatch(List<Map<String, String>> paramsList) {
+        return execBatch("ip-blocklist", paramsList, this::ipBlocklistAsync);
+    }
+
+    /**
+     * This API is a direct feed to our IP blocklist data
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"format" - The data format</li>
+     * <li>"cidr" - Output IPs using CIDR notation</li>
+     * <li>"ip6" - Output the IPv6 version of the blocklist</li>
+     * <li>"category" - The category of IP addresses to include in the download file</li>
+     * <li>"output-encoding" - Set this option to 'gzip' to have the output file compressed using gzip</li>
+     * <li>"checksum" - Do not download the file but just return the current files MurmurHash3 checksum</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist-download">Documentation</a>
+     */
+    public APIResponse ipBlocklistDownload(Map<String, String> params, Path outputFilePath) {
+        return execRequest("POST", "ip-blocklist-download", datasetParams(params), datasetOutput(outputFilePath), 30L, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #ipBlocklistDownload(Map, Path)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist-download">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> ipBlocklistDownloadAsync(Map<String, String> params, Path outputFilePath) {
+        return execRequestAsync("POST", "ip-blocklist-download", datasetParams(params), datasetOutput(outputFilePath), 30L, null);
+    }
+
+    /**
+     * Resumable variant of {@link #ipBlocklistDownload(Map, Path)}, downloading to a ".part" file which a failed download resumes
+     * from with a Range request, either on retry or on the next call, as long as the file has not changed since. The
+     * request is sent as a GET so it can carry a Range
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored once complete
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist-download">Documentation</a>
+     */
+    public APIResponse ipBlocklistDownloadResumable(Map<String, String> params, Path outputFilePath) {
+        return execRequest("GET", "ip-blocklist-download", datasetParams(params), ResponseOutput.toResumableFile(outputFilePath, downloadBufferSize, fsyncPolicy), 30L, null);
+    }
+
+    /**
+     * Get location information about an IP address and do reverse DNS (PTR) lookups
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"ip" - An IPv4 or IPv6 address</li>
+     * <li>"reverse-lookup" - Do a reverse DNS (PTR) lookup</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-info">Documentation</a>
+     */
+    public APIResponse ipInfo(Map<String, String> params) {
+        return execRequest("GET", "ip-info", params, null, 10L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #ipInfo(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-info">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> ipInfoAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "ip-info", params, null, 10L);
+    }
+
+    /**
+     * Typed variant of {@link #ipInfo(Map)}, reading the response directly into a {@link IPInfoResult}
+     *
+     * @param params The API request parameters
+     * @return TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-info">Documentation</a>
+     */
+    public TypedAPIResponse<IPInfoResult> ipInfoResult(Map<String, String> params) {
+        return TypedAPIResponse.of(execRequest("GET", "ip-info", params, null, 10L, IPInfoResult.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #ipInfoResult(Map)}
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the TypedAPIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-info">Documentation</a>
+     */
+    public CompletableFuture<TypedAPIResponse<IPInfoResult>> ipInfoResultAsync(Map<String, String> params) {
+        return typed(execRequestAsync("GET", "ip-info", params, null, 10L, IPInfoResult.class));
+    }
+
+    /**
+     * Batch variant of {@link #ipInfo(Map)}, sending the requests concurrently and identical requests only once
+     *
+     * @param paramsList The API request parameters of each request
+     * @return the APIResponse of each request, in the same order
+     * @see <a href="https://www.neutrinoapi.com/api/ip-info">Documentation</a>
+     */
+    public List<APIResponse> ipInfoBatch(List<Map<String, String>> paramsList) {
+        return execBatch("ip-info", paramsList, this::ipInfoAsync);
+    }
+
+    /**
+     * Execute a realtime network probe against an IPv4 or IPv6 address
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"ip" - An IPv4 or IPv6 address</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-probe">Documentation</a>
+     */
+    public APIResponse ipProbe(Map<String, String> params) {
+        return execRequest("GET", "ip-probe", params, null, 300L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #ipProbe(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ip-probe">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> ipProbeAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "ip-probe", params, null, 300L);
+    }
+
+    /**
+     * Make an automated call to any valid phone number and playback an audio message
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"number" - The phone number to call</li>
+     * <li>"limit" - Limit the total number of calls allowed to the supplied phone number</li>
+     * <li>"audio-url" - A URL to a valid audio file</li>
+     * <li>"limit-ttl" - Set the TTL in number of days that the 'limit' option will remember a phone number (the default is 1 day and the maximum is 365 days)</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/phone-playback">Documentation</a>
+     */
+    public APIResponse phonePlayback(Map<String, String> params) {
+        return execRequest("POST", "phone-playback", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #phonePlayback(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/phone-playback">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> phonePlaybackAsync(Map<String, String> params) {
+        return execRequestAsync("POST", "phone-playback", params, null, 30L);
+    }
+
+    /**
+     * Parse, validate and get location information about a phone number
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"number" - A phone number</li>
+     * <li>"country-code" - ISO 2-letter country code</li>
+     * <li>"ip" - Pass in a users IP address and we will assume numbers are based in the country of the IP address</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/phone-validate">Documentation</a>
+     */
+    public APIResponse phoneValidate(Map<String, String> params) {
+        return execRequest("GET", "phone-validate", params, null, 10L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #phoneValidate(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/phone-validate">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> phoneValidateAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "phone-validate", params, null, 10L);
+    }
+
+    /**
+     * Batch variant of {@link #phoneValidate(Map)}, sending the requests concurrently and identical requests only once
+     *
+     * @param paramsList The API request parameters of each request
+     * @return the APIResponse of each request, in the same order
+     * @see <a href="https://www.neutrinoapi.com/api/phone-validate">Documentation</a>
+     */
+    public List<APIResponse> phoneValidateBatch(List<Map<String, String>> paramsList) {
+        return execBatch("phone-validate", paramsList, this::phoneValidateAsync);
+    }
+
+    /**
+     * Make an automated call to any valid phone number and playback a unique security code
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"number" - The phone number to send the verification code to</li>
+     * <li>"country-code" - ISO 2-letter country code</li>
+     * <li>"security-code" - Pass in your own security code</li>
+     * <li>"language-code" - The language to playback the verification code in</li>
+     * <li>"code-length" - The number of digits to use in the security code (between 4 and 12)</li>
+     * <li>"limit" - Limit the total number of calls allowed to the supplied phone number</li>
+     * <li>"playback-delay" - The delay in milliseconds between the playback of each security code</li>
+     * <li>"limit-ttl" - Set the TTL in number of days that the 'limit' option will remember a phone number (the default is 1 day and the maximum is 365 days)</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/phone-verify">Documentation</a>
+     */
+    public APIResponse phoneVerify(Map<String, String> params) {
+        return execRequest("POST", "phone-verify", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #phoneVerify(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/phone-verify">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> phoneVerifyAsync(Map<String, String> params) {
+        return execRequestAsync("POST", "phone-verify", params, null, 30L);
+    }
+
+    /**
+     * Generate a QR code as a PNG image
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"code-format" - The barcode format to output</li>
+     * <li>"width" - The width of the QR code (in px)</li>
+     * <li>"fg-color" - The QR code foreground color</li>
+     * <li>"bg-color" - The QR code background color</li>
+     * <li>"content" - The content to encode into the QR code (e.g. a URL or a phone number)</li>
+     * <li>"height" - The height of the QR code (in px)</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/qr-code">Documentation</a>
+     */
+    public APIResponse qrCode(Map<String, String> params, Path outputFilePath) {
+        return execRequest("POST", "qr-code", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #qrCode(Map, Path)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @param outputFilePath to where the file is to be stored
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/qr-code">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> qrCodeAsync(Map<String, String> params, Path outputFilePath) {
+        return execRequestAsync("POST", "qr-code", params, outputFilePath, 30L);
+    }
+
+    /**
+     * Variant of {@link #qrCode(Map, Path)} writing the output to a stream, which is flushed but not closed
+     *
+     * @param params The API request parameters
+     * @param outputStream to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/qr-code">Documentation</a>
+     */
+    public APIResponse qrCode(Map<String, String> params, OutputStream outputStream) {
+        return qrCode(params, BodyConsumer.to(outputStream));
+    }
+
+    /**
+     * Variant of {@link #qrCode(Map, Path)} writing the output to a channel, which is not closed
+     *
+     * @param params The API request parameters
+     * @param channel to where the output is written
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/qr-code">Documentation</a>
+     */
+    public APIResponse qrCode(Map<String, String> params, WritableByteChannel channel) {
+        return qrCode(params, BodyConsumer.to(channel));
+    }
+
+    /**
+     * Variant of {@link #qrCode(Map, Path)} streaming the output to a consumer as it arrives
+     *
+     * @param params The API request parameters
+     * @param consumer reads the output
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/qr-code">Documentation</a>
+     */
+    public APIResponse qrCode(Map<String, String> params, BodyConsumer consumer) {
+        return execRequest("POST", "qr-code", params, ResponseOutput.toConsumer(consumer), 30L, null);
+    }
+
+    /**
+     * Send a unique security code to any mobile device via SMS
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"number" - The phone number to send a verification code to</li>
+     * <li>"country-code" - ISO 2-letter country code</li>
+     * <li>"security-code" - Pass in your own security code</li>
+     * <li>"language-code" - The language to send the verification code in</li>
+     * <li>"code-length" - The number of digits to use in the security code (must be between 4 and 12)</li>
+     * <li>"limit" - Limit the total number of SMS allowed to the supplied phone number</li>
+     * <li>"brand-name" - Set a custom brand or product name in the verification message</li>
+     * <li>"limit-ttl" - Set the TTL in number of days that the 'limit' option will remember a phone number (the default is 1 day and the maximum is 365 days)</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/sms-verify">Documentation</a>
+     */
+    public APIResponse smsVerify(Map<String, String> params) {
+        return execRequest("POST", "sms-verify", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #smsVerify(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/sms-verify">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> smsVerifyAsync(Map<String, String> params) {
+        return execRequestAsync("POST", "sms-verify", params, null, 30L);
+    }
+
+    /**
+     * Parse, validate and get detailed user-agent information from a user agent string or from client hints
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"ua" - The user-agent string to lookup</li>
+     * <li>"ua-version" - For client hints this corresponds to the 'UA-Full-Version' header or 'uaFullVersion' from NavigatorUAData</li>
+     * <li>"ua-platform" - For client hints this corresponds to the 'UA-Platform' header or 'platform' from NavigatorUAData</li>
+     * <li>"ua-platform-version" - For client hints this corresponds to the 'UA-Platform-Version' header or 'platformVersion' from NavigatorUAData</li>
+     * <li>"ua-mobile" - For client hints this corresponds to the 'UA-Mobile' header or 'mobile' from NavigatorUAData</li>
+     * <li>"device-model" - For client hints this corresponds to the 'UA-Model' header or 'model' from NavigatorUAData</li>
+     * <li>"device-brand" - This parameter is only used in combination with 'device-model' when doing direct device lookups without any user-agent data</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ua-lookup">Documentation</a>
+     */
+    public APIResponse uaLookup(Map<String, String> params) {
+        return execRequest("GET", "ua-lookup", params, null, 10L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #uaLookup(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/ua-lookup">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> uaLookupAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "ua-lookup", params, null, 10L);
+    }
+
+    /**
+     * Parse, analyze and retrieve content from the supplied URL
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"url" - The URL to probe</li>
+     * <li>"fetch-content" - If this URL responds with html</li>
+     * <li>"ignore-certificate-errors" - Ignore any TLS/SSL certificate errors and load the URL anyway</li>
+     * <li>"timeout" - Timeout in seconds</li>
+     * <li>"retry" - If the request fails for any reason try again this many times</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/url-info">Documentation</a>
+     */
+    public APIResponse urlInfo(Map<String, String> params) {
+        return execRequest("GET", "url-info", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #urlInfo(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/url-info">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> urlInfoAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "url-info", params, null, 30L);
+    }
+
+    /**
+     * Check if a security code sent via SMS Verify or Phone Verify is valid
+     * <p>The parameters this API accepts are:</p>
+     * <ul>
+     * <li>"security-code" - The security code to verify</li>
+     * <li>"limit-by" - If set then enable additional brute-force protection by limiting the number of attempts by the supplied value</li>
+     * </ul>
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/verify-security-code">Documentation</a>
+     */
+    public APIResponse verifySecurityCode(Map<String, String> params) {
+        return execRequest("GET", "verify-security-code", params, null, 30L);
+    }
+
+    /**
+     * Asynchronous variant of {@link #verifySecurityCode(Map)}, see it for the parameters this API accepts
+     *
+     * @param params The API request parameters
+     * @return CompletableFuture completed with the APIResponse
+     * @see <a href="https://www.neutrinoapi.com/api/verify-security-code">Documentation</a>
+     */
+    public CompletableFuture<APIResponse> verifySecurityCodeAsync(Map<String, String> params) {
+        return execRequestAsync("GET", "verify-security-code", params, null, 30L);
+    }
+
+    /**
+     * Make a request to the Neutrino API
+     */
+    private APIResponse execRequest(String httpMethod, String endpoint, Map<String, String> params, Path outputFilePath, long timeoutInSeconds) {
+        return execRequest(httpMethod, endpoint, params, fileOutput(outputFilePath), timeoutInSeconds, null);
+    }
+
+    /**
+     * Make a request to the Neutrino API, reading JSON data into the result type if one is given
+     */
+    private APIResponse execRequest(String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output, long timeoutInSeconds, Class<?> resultType) {
+        Duration cacheTTL = cacheTTL(httpMethod, endpoint, output);
+        boolean coalesced = isCoalesced(httpMethod, output);
+        String cacheKey = cacheTTL != null || coalesced ? cacheKey(endpoint, params, resultType) : null;
+        if (cacheTTL != null) {
+            APIResponse cached = cache.get(cacheKey);
+            if (cached != null) {
+                recordCacheHit(endpoint);
+                return cached;
+            }
+            recordCacheMiss(endpoint);
+        }
+        Supplier<APIResponse> attempt;
+        if (isHedged(httpMethod, output, timeoutInSeconds)) {
+            attempt = () -> join(new HedgedExchange(endpoint, params, timeoutInSeconds, resultType).start());
+        } else {
+            attempt = () -> send(httpMethod, endpoint, params, output, timeoutInSeconds, resultType);
+        }
+        Supplier<APIResponse> request = isRetried(output) ? () -> retry(httpMethod, endpoint, attempt) : attempt;
+        APIResponse response;
+        if (coalesced) {
+            response = measure(endpoint, () -> requestCoalescer.execute(cacheKey, request));
+        } else {
+            response = measure(endpoint, request);
+        }
+        if (cacheTTL != null) {
+            cacheResponse(cacheKey, response, cacheTTL);
+        }
+        return response;
+    }
+
+    /**
+     * Make the request, recording its latency and error code if the client has metrics
+     */
+    private APIResponse measure(String endpoint, Supplier<APIResponse> request) {
+        if (metrics == null) {
+            return request.get();
+        }
+        metrics.requestStarted(endpoint);
+        long startNanos = System.nanoTime();
+        APIResponse response = null;
+        try {
+            response = request.get();
+            return response;
+        } finally {
+            metrics.requestCompleted(endpoint, response, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Make the asynchronous request, recording its latency and error code if the client has metrics
+     */
+    private CompletableFuture<APIResponse> measureAsync(String endpoint, Supplier<CompletableFuture<APIResponse>> request) {
+        if (metrics == null) {
+            return request.get();
+        }
+        metrics.requestStarted(endpoint);
+        long startNanos = System.nanoTime();
+        CompletableFuture<APIResponse> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException | Error e) {
+            metrics.requestCompleted(endpoint, null, System.nanoTime() - startNanos);
+            throw e;
+        }
+        future.whenComplete((response, cause) -> metrics.requestCompleted(endpoint, response, System.nanoTime() - startNanos));
+        return future;
+    }
+
+    private void recordCacheHit(String endpoint) {
+        if (metrics != null) {
+            metrics.cacheHit(endpoint);
+        }
+    }
+
+    private void recordCacheMiss(String endpoint) {
+        if (metrics != null) {
+            metrics.cacheMiss(endpoint);
+        }
+    }
+
+    /**
+     * Retry the request while it fails with a retryable error, see {@link RetryPolicy}
+     */
+    private APIResponse retry(String httpMethod, String endpoint, Supplier<APIResponse> attempt) {
+        retryPolicy.startRequest();
+        APIResponse response = attempt.get();
+        for (int retries = 0; retryPolicy.shouldRetry(httpMethod, endpoint, response, retries); retries++) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(retryPolicy.backoffNanos(response, retries));
+            } catch (InterruptedException e) {
+                // Give up retrying, the last error is returned
+                Thread.currentThread().interrupt();
+                break;
+            }
+            response = attempt.get();
+        }
+        return response;
+    }
+
+    /**
+     * Send the request once a concurrency permit is available, see {@link ConcurrencyLimiter}
+     */
+    private APIResponse send(String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output, long timeoutInSeconds, Class<?> resultType) {
+        if (concurrencyLimiter == null) {
+            return sendToEndpoints(httpMethod, endpoint, params, output, timeoutInSeconds, resultType);
+        }
+        ConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire().join();
+        if (permit == null) {
+            return rejectedResponse();
+        }
+        APIResponse response = null;
+        try {
+            response = sendToEndpoints(httpMethod, endpoint, params, output, timeoutInSeconds, resultType);
+            return response;
+        } finally {
+            concurrencyLimiter.release(permit, response);
+        }
+    }
+
+    /**
+     * Send the request to each base URL in routing order until one of them responds, see {@link EndpointGroup}
+     */
+    private APIResponse sendToEndpoints(String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output, long timeoutInSeconds, Class<?> resultType) {
+        List<String> baseURLs = baseURLs(timeoutInSeconds);
+        APIResponse response = null;
+        for (int attempt = 0; response == null; attempt++) {
+            String baseURL = baseURLs.get(attempt);
+            boolean lastAttempt = attempt == baseURLs.size() - 1;
+            Request request = buildRequest(baseURL, httpMethod, endpoint, params, output);
+            if (request == null) {
+                return APIResponse.of(APIResponse.NO_STATUS, APIResponse.NO_CONTENT_TYPE, APIErrorCode.URL_PARSING_ERROR);
+            }
+            long startNanos = System.nanoTime();
+            try ( Response httpResponse = httpClientFor(timeoutInSeconds).newCall(request).execute()) {
+                boolean serverError = isServerError(httpResponse);
+                recordHealth(baseURL, timeoutInSeconds, output, startNanos, serverError);
+                if (serverError && !lastAttempt && httpMethod.equals("GET")) {
+                    continue;
+                }
+                response = handleResponse(httpResponse, output, resultType);
+            } catch (IOException e) {
+                if (isEndpointFailure(e)) {
+                    recordHealth(baseURL, timeoutInSeconds, output, startNanos, true);
+                }
+                if (!canFailover(httpMethod, e) || lastAttempt) {
+                    response = errorResponse(e).withTimings(timings(request));
+                }
+            } catch (JsonSyntaxException e) {
+                response = errorResponse(e).withTimings(timings(request));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Make an asynchronous request to the Neutrino API, using the shared dispatcher
+     */
+    private CompletableFuture<APIResponse> execRequestAsync(String httpMethod, String endpoint, Map<String, String> params, Path outputFilePath, long timeoutInSeconds) {
+        return execRequestAsync(httpMethod, endpoint, params, fileOutput(outputFilePath), timeoutInSeconds, null);
+    }
+
+    /**
+     * Make an asynchronous request to the Neutrino API, reading JSON data into the result type if one is given
+     */
+    private CompletableFuture<APIResponse> execRequestAsync(String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output, long timeoutInSeconds, Class<?> resultType) {
+        Duration cacheTTL = cacheTTL(httpMethod, endpoint, output);
+        boolean coalesced = isCoalesced(httpMethod, output);
+        String cacheKey = cacheTTL != null || coalesced ? cacheKey(endpoint, params, resultType) : null;
+        if (cacheTTL != null) {
+            APIResponse cached = cache.get(cacheKey);
+            if (cached != null) {
+                recordCacheHit(endpoint);
+                return CompletableFuture.completedFuture(cached);
+            }
+            recordCacheMiss(endpoint);
+        }
+        Supplier<CompletableFuture<APIResponse>> attempt;
+        if (isHedged(httpMethod, output, timeoutInSeconds)) {
+            attempt = () -> new HedgedExchange(endpoint, params, timeoutInSeconds, resultType).start();
+        } else {
+            attempt = () -> sendAsync(httpMethod, endpoint, params, output, timeoutInSeconds, resultType, baseURLs(timeoutInSeconds));
+        }
+        Supplier<CompletableFuture<APIResponse>> request = isRetried(output) ? () -> new RetryingExchange(httpMethod, endpoint, attempt).start() : attempt;
+        CompletableFuture<APIResponse> future;
+        if (coalesced) {
+            future = measureAsync(endpoint, () -> requestCoalescer.executeAsync(cacheKey, request));
+        } else {
+            future = measureAsync(endpoint, request);
+        }
+        if (cacheTTL != null) {
+            future.thenAccept(response -> cacheResponse(cacheKey, response, cacheTTL));
+        }
+        return future;
+    }
+
+    /**
+     * Send the request asynchronously once a concurrency permit is available, see {@link ConcurrencyLimiter}
+     */
+    private CompletableFuture<APIResponse> sendAsync(String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output, long timeoutInSeconds, Class<?> resultType, List<String> baseURLs) {
+        if (concurrencyLimiter == null) {
+            return sendToEndpointsAsync(httpMethod, endpoint, params, output, timeoutInSeconds, resultType, baseURLs);
+        }
+        CompletableFuture<APIResponse> future = new CompletableFuture<>();
+        CompletableFuture<ConcurrencyLimiter.Permit> acquired = concurrencyLimiter.acquire();
+        // Cancelling the request while it is queued removes it from the queue
+        future.whenComplete((response, cause) -> {
+            if (future.isCancelled()) {
+                acquired.cancel(false);
+            }
+        });
+        acquired.thenAccept(permit -> {
+            if (permit == null) {
+                future.complete(rejectedResponse());
+                return;
+            }
+            if (future.isDone()) {
+                // Cancelled just as the permit was granted
+                concurrencyLimiter.release(permit, null);
+                return;
+            }
+            CompletableFuture<APIResponse> sent = sendToEndpointsAsync(httpMethod, endpoint, params, output, timeoutInSeconds, resultType, baseURLs);
+            sent.whenComplete((response, cause) -> {
+                concurrencyLimiter.release(permit, response);
+                if (cause != null) {
+                    future.completeExceptionally(cause);
+                } else {
+                    future.complete(response);
+                }
+            });
+            future.whenComplete((response, cause) -> {
+                if (future.isCancelled()) {
+                    sent.cancel(false);
+                }
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Send the request asynchronously to each base URL in routing order until one of them responds
+     */
+    private CompletableFuture<APIResponse> sendToEndpointsAsync(String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output, long timeoutInSeconds, Class<?> resultType, List<String> baseURLs) {
+        AsyncExchange exchange = new AsyncExchange(httpMethod, endpoint, params, output, timeoutInSeconds, resultType, baseURLs);
+        CompletableFuture<APIResponse> future = exchange.future;
+        exchange.send();
+        // Cancelling the future cancels the in-flight call
+        future.whenComplete((response, cause) -> {
+            if (future.isCancelled()) {
+                exchange.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * A request rejected by the concurrency limiter without being sent
+     */
+    private APIResponse rejectedResponse() {
+        return APIResponse.of(APIResponse.NO_STATUS, APIResponse.NO_CONTENT_TYPE, APIErrorCode.CONCURRENT,
+                String.format("%s, Client-side limit: %d", APIErrorCode.getErrorMessage(APIErrorCode.CONCURRENT), concurrencyLimiter.getLimit()));
+    }
+
+    /**
+     * Is the request hedged, see {@link HedgingPolicy}
+     */
+    private boolean isHedged(String httpMethod, ResponseOutput output, long timeoutInSeconds) {
+        return hedgingPolicy != null && output == null && timeoutInSeconds == 10L && httpMethod.equals("GET");
+    }
+
+    /**
+     * Responses streamed to a consumer are not retried, part of the body may already have been consumed
+     */
+    private boolean isRetried(ResponseOutput output) {
+        return retryPolicy != null && (output == null || output.isRepeatable());
+    }
+
+    /**
+     * Store file output in the file, if one is given
+     */
+    private ResponseOutput fileOutput(Path outputFilePath) {
+        return outputFilePath == null ? null : ResponseOutput.toFile(outputFilePath, downloadBufferSize, fsyncPolicy);
+    }
+
+    /**
+     * Request gzip compression of a dataset download, if configured and not already set by the parameters
+     */
+    private Map<String, String> datasetParams(Map<String, String> params) {
+        if (downloadCompression == DownloadCompression.NONE || params.containsKey("output-encoding")) {
+            return params;
+        }
+        Map<String, String> compressed = new HashMap<>(params);
+        compressed.put("output-encoding", "gzip");
+        return compressed;
+    }
+
+    /**
+     * Store a dataset download in the file, decompressing it on the fly if configured
+     */
+    private ResponseOutput datasetOutput(Path outputFilePath) {
+        if (outputFilePath == null) {
+            return null;
+        }
+        boolean decompress = downloadCompression == DownloadCompression.GZIP_DECOMPRESSED;
+        return ResponseOutput.toFile(outputFilePath, downloadBufferSize, fsyncPolicy, decompress);
+    }
+
+    /**
+     * Identical concurrent GET requests share one response, except for file downloads
+     */
+    private boolean isCoalesced(String httpMethod, ResponseOutput output) {
+        return requestCoalescer != null && output == null && httpMethod.equals("GET");
+    }
+
+    /**
+     * Wait for an asynchronous request, unexpected exceptions are thrown the same as for a synchronous request
+     */
+    private static APIResponse join(CompletableFuture<APIResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Send a batch of requests to one API, with at most the batch concurrency in flight at once
+     *
+     * <p>Identical requests are sent once and share the response. Once any request fails with an error which every
+     * other request would also fail with (such as the daily call limit, or batch processing not being available on
+     * the plan) no more requests are sent and the remaining requests get the same error.</p>
+     */
+    private List<APIResponse> execBatch(String endpoint, List<Map<String, String>> paramsList, Function<Map<String, String>, CompletableFuture<APIResponse>> request) {
+        int size = paramsList.size();
+        int[] source = new int[size];
+        List<Integer> unique = new ArrayList<>(size);
+        Map<String, Integer> firstIndexes = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Integer first = firstIndexes.putIfAbsent(CacheKey.of(endpoint, paramsList.get(i)), i);
+            source[i] = first == null ? i : first;
+            if (first == null) {
+                unique.add(i);
+            }
+        }
+
+        APIResponse[] responses = new APIResponse[size];
+        AtomicReference<APIResponse> batchError = new AtomicReference<>();
+        List<CompletableFuture<APIResponse>> inFlight = new ArrayList<>(unique.size());
+        Semaphore permits = new Semaphore(batchConcurrency);
+        try {
+            for (int index : unique) {
+                permits.acquire();
+                if (batchError.get() != null) {
+                    responses[index] = batchError.get();
+                    permits.release();
+                    continue;
+                }
+                CompletableFuture<APIResponse> future;
+                try {
+                    future = request.apply(paramsList.get(index));
+                } catch (RuntimeException e) {
+                    // Fail the request the same as if it had failed in flight, so its permit is still released
+                    future = CompletableFuture.failedFuture(e);
+                }
+                inFlight.add(future);
+                future.whenComplete((response, cause) -> {
+                    responses[index] = cause == null ? response : APIResponse.of(APIErrorCode.NETWORK_IO_ERROR, cause);
+                    if (BATCH_ERROR_CODES.contains(responses[index].getErrorCode())) {
+                        batchError.compareAndSet(null, responses[index]);
+                    }
+                    permits.release();
+                });
+            }
+            // Wait for the requests still in flight
+            permits.acquire(batchConcurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            inFlight.forEach(future -> future.cancel(false));
+            APIResponse interrupted = APIResponse.of(APIErrorCode.NETWORK_IO_ERROR, e);
+            for (int index : unique) {
+                if (responses[index] == null) {
+                    responses[index] = interrupted;
+                }
+            }
+        }
+        List<APIResponse> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(responses[source[i]]);
+        }
+        return results;
+    }
+
+    /**
+     * Convert the future of a typed request, cancelling the typed future cancels the request
+     */
+    private static <T> CompletableFuture<TypedAPIResponse<T>> typed(CompletableFuture<APIResponse> future) {
+        CompletableFuture<TypedAPIResponse<T>> typed = future.thenApply(TypedAPIResponse::of);
+        typed.whenComplete((response, cause) -> {
+            if (typed.isCancelled()) {
+                future.cancel(false);
+            }
+        });
+        return typed;
+    }
+
+    /**
+     * The cache TTL for a request, or null if the request is not cacheable
+     */
+    private Duration cacheTTL(String httpMethod, String endpoint, ResponseOutput output) {
+        if (cache == null || output != null || !httpMethod.equals("GET")) {
+            return null;
+        }
+        Duration ttl = cacheTTLs.get(endpoint);
+        return ttl == null || ttl.isZero() ? null : ttl;
+    }
+
+    /**
+     * The cache key for a request, typed and untyped responses are cached separately
+     */
+    private static String cacheKey(String endpoint, Map<String, String> params, Class<?> resultType) {
+        return CacheKey.of(resultType == null ? endpoint : endpoint + "#" + resultType.getSimpleName(), params);
+    }
+
+    /**
+     * Cache successful responses only, errors are never cached
+     */
+    private void cacheResponse(String cacheKey, APIResponse response, Duration ttl) {
+        if (response.getErrorCode() == 0) {
+            cache.put(cacheKey, response.withoutTimings(), ttl);
+        }
+    }
+
+    /**
+     * Get the HTTP client for the given timeout
+     */
+    private OkHttpClient httpClientFor(long timeoutInSeconds) {
+        OkHttpClient client = timeoutProfiles.get(timeoutInSeconds);
+        if (client == null) {
+            client = withTimeout(httpClient, timeoutInSeconds);
+        }
+        return client;
+    }
+
+    /**
+     * The base URLs to try, in order
+     */
+    private List<String> baseURLs(long timeoutInSeconds) {
+        return endpointGroup == null ? List.of(baseURL) : endpointGroup.route(timeoutInSeconds);
+    }
+
+    /**
+     * Update the health score of a base URL in the endpoint group, the latency of file downloads is not scored as it
+     * depends on the size of the file
+     */
+    private void recordHealth(String baseURL, long timeoutInSeconds, ResponseOutput output, long startNanos, boolean failed) {
+        if (endpointGroup == null) {
+            return;
+        }
+        if (failed) {
+            endpointGroup.recordFailure(baseURL);
+        } else {
+            endpointGroup.recordSuccess(baseURL, timeoutInSeconds, output == null ? System.nanoTime() - startNanos : -1);
+        }
+    }
+
+    /**
+     * Build the HTTP request, returns null if the request URL can not be parsed
+     */
+    private Request buildRequest(String baseURL, String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output) {
+        HttpUrl httpUrl = requestTemplates.url(baseURL, endpoint);
+        if (httpUrl == null) {
+            return null;
+        }
+        Request.Builder requestBuilder = new Request.Builder()
+                .tag(String.class, endpoint)
+                .tag(CallTimingsRecorder.class, new CallTimingsRecorder())
+                .headers(requestTemplates.headers());
+        if (httpMethod.equals("GET")) {
+            // Request using HTTP GET
+            if (params.isEmpty()) {
+                requestBuilder.url(httpUrl);
+            } else {
+                HttpUrl.Builder urlBuilder = httpUrl.newBuilder();
+                params.forEach(urlBuilder::addQueryParameter);
+                requestBuilder.url(urlBuilder.build());
+            }
+        } else {
+            // Using HTTP POST
+            FormBody.Builder formBodyBuilder = new FormBody.Builder();
+            params.forEach(formBodyBuilder::add);
+            requestBuilder.url(httpUrl);
+            requestBuilder.post(formBodyBuilder.build());
+        }
+        if (output != null) {
+            output.prepare(requestBuilder);
+        }
+        return requestBuilder.build();
+    }
+
+    /**
+     * Convert the HTTP response into an API response
+     */
+    private APIResponse handleResponse(Response httpResponse, ResponseOutput output, Class<?> resultType) throws IOException {
+        APIResponse response = APIResponse.of(APIResponse.NO_STATUS, APIResponse.NO_CONTENT_TYPE, APIErrorCode.NO_DATA);
+        try ( ResponseBody body = httpResponse.body()) {
+            String contentType = Objects.requireNonNull(Objects.requireNonNull(body).contentType()).toString();
+            int statusCode = httpResponse.code();
+            if (httpResponse.isSuccessful()) {
+                // 200 OK
+                if (contentType.contains("application/json") && resultType != null) {
+                    response = TypedAPIResponse.of(statusCode, contentType, parseResult(body, resultType));
+                } else if (contentType.contains("application/json")) {
+                    JsonObject json = parseJson(body);
+                    response = APIResponse.of(statusCode, contentType, json);
+                } else if (output != null) {
+                    if (output.write(httpResponse, body) > 0) {
+                        response = APIResponse.of(statusCode, contentType, output.getFile());
+                    }
+                } else {
+                    String rawResponse = body.string();
+                    response = APIResponse.of(statusCode, contentType, APIErrorCode.API_GATEWAY_ERROR, rawResponse);
+                }
+            } else {
+                // Non-200 error received
+                if (output != null) {
+                    output.rejected(statusCode);
+                }
+                if (contentType.contains("application/json")) {
+                    JsonObject json = parseJson(body);
+                    if (json.has("api-error") && json.has("api-error-msg")) {
+                        int errorCode = json.get("api-error").getAsInt();
+                        String errorMessage = json.get("api-error-msg").getAsString();
+                        if (errorCode == 1) {
+                            errorMessage = String.format("%s, Name: %s, Type: %s", errorMessage,
+                                    json.get("api-parameter-name").getAsString(),
+                                    json.get("api-parameter-type").getAsString());
+                        }
+                        response = APIResponse.of(statusCode, contentType, errorCode, errorMessage);
+                    }
+                } else {
+                    String rawResponse = body.string();
+                    response = APIResponse.of(statusCode, contentType, APIErrorCode.API_GATEWAY_ERROR, rawResponse);
+                }
+            }
+        }
+        return response.withTimings(timings(httpResponse.request()));
+    }
+
+    /**
+     * The timings of the HTTP call of the request, taken once the call has ended
+     */
+    private static CallTimings timings(Request request) {
+        CallTimingsRecorder recorder = request.tag(CallTimingsRecorder.class);
+        return recorder == null ? null : recorder.snapshot();
+    }
+
+    /**
+     * Parse a JSON object directly from the response body stream, without first reading it into a string
+     *
+     * <p>Small bodies of known length are cheaper to parse from a string than to wrap in a stream reader and its
+     * buffers, so those still are.</p>
+     */
+    private static JsonObject parseJson(ResponseBody body) throws IOException {
+        long contentLength = body.contentLength();
+        if (contentLength >= 0 && contentLength <= STREAMING_JSON_THRESHOLD) {
+            return JsonParser.parseString(body.string()).getAsJsonObject();
+        }
+        try ( Reader reader = body.charStream()) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (JsonIOException e) {
+            // Network errors while reading the body are reported the same as for any other read
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Read a typed result directly from the response body stream using its streaming type adapter
+     */
+    private static <T> T parseResult(ResponseBody body, Class<T> resultType) throws IOException {
+        TypeAdapter<T> adapter = ResponseModels.adapter(resultType);
+        long contentLength = body.contentLength();
+        try {
+            if (contentLength >= 0 && contentLength <= STREAMING_JSON_THRESHOLD) {
+                return adapter.fromJson(body.string());
+            }
+            try ( Reader reader = body.charStream()) {
+                return adapter.fromJson(reader);
+            }
+        } catch (MalformedJsonException | IllegalStateException | NumberFormatException e) {
+            // Report malformed JSON the same as the JSON tree parser does
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * A 5xx response, the API or a proxy in front of it is failing
+     */
+    private static boolean isServerError(Response httpResponse) {
+        return httpResponse.code() >= 500;
+    }
+
+    /**
+     * A connection or timeout failure, counting against the health of the base URL
+     */
+    private static boolean isEndpointFailure(IOException e) {
+        return canFailover("GET", e);
+    }
+
+    /**
+     * Can the request be sent to the next base URL after this exception, a POST is only sent again when the
+     * connection failed so it can never have reached the API
+     */
+    private static boolean canFailover(String httpMethod, IOException e) {
+        if (e instanceof ConnectException || e instanceof UnknownHostException || e instanceof SSLHandshakeException) {
+            return true;
+        }
+        return e instanceof SocketTimeoutException && httpMethod.equals("GET");
+    }
+
+    /**
+     * Map a client-side exception to an API response
+     */
+    private static APIResponse errorResponse(Exception e) {
+        if (e instanceof JsonSyntaxException) {
+            return APIResponse.of(APIErrorCode.INVALID_JSON_RESPONSE, e);
+        } else if (e instanceof ConnectException) {
+            return APIResponse.of(APIErrorCode.CONNECT_TIMEOUT, e);
+        } else if (e instanceof SocketTimeoutException) {
+            return APIResponse.of(APIErrorCode.READ_TIMEOUT, e);
+        } else if (e instanceof UnknownHostException) {
+            return APIResponse.of(APIErrorCode.DNS_LOOKUP_FAILED, e);
+        } else if (e instanceof FileNotFoundException || e instanceof FileSystemException) {
+            return APIResponse.of(APIErrorCode.FILE_IO_ERROR, e);
+        } else if (e instanceof SSLException) {
+            return APIResponse.of(APIErrorCode.TLS_PROTOCOL_ERROR, e);
+        }
+        return APIResponse.of(APIErrorCode.NETWORK_IO_ERROR, e);
+    }
+
+    /**
+     * Build one HTTP client per timeout profile, all sharing the same connection pool and dispatcher
+     */
+    private static Map<Long, OkHttpClient> buildTimeoutProfiles(OkHttpClient httpClient) {
+        Map<Long, OkHttpClient> profiles = new HashMap<>();
+        for (long timeoutInSeconds : TIMEOUT_PROFILES_IN_SECONDS) {
+            profiles.put(timeoutInSeconds, withTimeout(httpClient, timeoutInSeconds));
+        }
+        return profiles;
+    }
+
+    /**
+     * Derive an HTTP client with the given read and write timeout
+     */
+    private static OkHttpClient withTimeout(OkHttpClient httpClient, long timeoutInSeconds) {
+        return httpClient.newBuilder()
+                .readTimeout(timeoutInSeconds, TimeUnit.SECONDS)
+                .writeTimeout(timeoutInSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * An asynchronous request, failing over to the next base URL from within the OkHttp callback
+     */
+    private final class AsyncExchange implements Callback {
+
+        final CompletableFuture<APIResponse> future = new CompletableFuture<>();
+        final String httpMethod;
+        final String endpoint;
+        final Map<String, String> params;
+        final ResponseOutput output;
+        final long timeoutInSeconds;
+        final Class<?> resultType;
+        final List<String> baseURLs;
+        int attempt;
+        long startNanos;
+        volatile Call call;
+
+        AsyncExchange(String httpMethod, String endpoint, Map<String, String> params, ResponseOutput output, long timeoutInSeconds, Class<?> resultType, List<String> baseURLs) {
+            this.httpMethod = httpMethod;
+            this.endpoint = endpoint;
+            this.params = params;
+            this.output = output;
+            this.timeoutInSeconds = timeoutInSeconds;
+            this.resultType = resultType;
+            this.baseURLs = baseURLs;
+        }
+
+        /**
+         * Send the request to the current base URL
+         */
+        void send() {
+            Request request = buildRequest(baseURLs.get(attempt), httpMethod, endpoint, params, output);
+            if (request == null) {
+                future.complete(APIResponse.of(APIResponse.NO_STATUS, APIResponse.NO_CONTENT_TYPE, APIErrorCode.URL_PARSING_ERROR));
+                return;
+            }
+            startNanos = System.nanoTime();
+            Call next = httpClientFor(timeoutInSeconds).newCall(request);
+            call = next;
+            if (future.isDone()) {
+                return;
+            }
+            next.enqueue(this);
+        }
+
+        void cancel() {
+            Call current = call;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        /**
+         * Fail over to the next base URL, returns false if there is none or the request was cancelled
+         */
+        boolean failover() {
+            if (attempt == baseURLs.size() - 1 || future.isDone()) {
+                return false;
+            }
+            attempt++;
+            send();
+            return true;
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            if (isEndpointFailure(e)) {
+                recordHealth(baseURLs.get(attempt), timeoutInSeconds, output, startNanos, true);
+            }
+            if (!canFailover(httpMethod, e) || !failover()) {
+                future.complete(errorResponse(e).withTimings(timings(call.request())));
+            }
+        }
+
+        @Override
+        public void onResponse(Call call, Response httpResponse) {
+            try ( httpResponse) {
+                boolean serverError = isServerError(httpResponse);
+                recordHealth(baseURLs.get(attempt), timeoutInSeconds, output, startNanos, serverError);
+                if (serverError && httpMethod.equals("GET") && failover()) {
+                    return;
+                }
+                future.complete(handleResponse(httpResponse, output, resultType));
+            } catch (IOException | JsonSyntaxException e) {
+                future.complete(errorResponse(e).withTimings(timings(call.request())));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * A hedged GET request, racing the original request against a delayed hedge request to the alternate base URL
+     */
+    private final class HedgedExchange {
+
+        final CompletableFuture<APIResponse> future = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(1);
+        final String endpoint;
+        final Map<String, String> params;
+        final long timeoutInSeconds;
+        final Class<?> resultType;
+        final List<String> baseURLs;
+        final long startNanos = System.nanoTime();
+        volatile CompletableFuture<APIResponse> primary;
+        volatile CompletableFuture<APIResponse> hedge;
+        volatile ScheduledFuture<?> timer;
+
+        HedgedExchange(String endpoint, Map<String, String> params, long timeoutInSeconds, Class<?> resultType) {
+            this.endpoint = endpoint;
+            this.params = params;
+            this.timeoutInSeconds = timeoutInSeconds;
+            this.resultType = resultType;
+            this.baseURLs = baseURLs(timeoutInSeconds);
+        }
+
+        CompletableFuture<APIResponse> start() {
+            long delayNanos = hedgingPolicy.startRequest(endpoint);
+            primary = sendAsync("GET", endpoint, params, null, timeoutInSeconds, resultType, baseURLs);
+            primary.whenComplete((response, cause) -> complete(response, cause, false));
+            if (delayNanos >= 0 && !primary.isDone()) {
+                timer = ClientScheduler.schedule(this::hedge, delayNanos);
+            }
+            // Whichever request completes first the other is cancelled
+            future.whenComplete((response, cause) -> {
+                ScheduledFuture<?> pendingTimer = timer;
+                if (pendingTimer != null) {
+                    pendingTimer.cancel(false);
+                }
+                primary.cancel(false);
+                CompletableFuture<APIResponse> hedged = hedge;
+                if (hedged != null) {
+                    hedged.cancel(false);
+                }
+            });
+            return future;
+        }
+
+        /**
+         * Send the hedge request, starting with the next base URL in routing order
+         */
+        void hedge() {
+            if (future.isDone() || !hedgingPolicy.tryHedge()) {
+                return;
+            }
+            pending.incrementAndGet();
+            List<String> alternateURLs = new ArrayList<>(baseURLs.subList(1, baseURLs.size()));
+            alternateURLs.add(baseURLs.get(0));
+            CompletableFuture<APIResponse> hedged = sendAsync("GET", endpoint, params, null, timeoutInSeconds, resultType, alternateURLs);
+            hedge = hedged;
+            hedged.whenComplete((response, cause) -> complete(response, cause, true));
+            if (future.isDone()) {
+                hedged.cancel(false);
+            }
+        }
+
+        /**
+         * Use the first successful response, or the last response if neither request succeeds
+         */
+        void complete(APIResponse response, Throwable cause, boolean hedged) {
+            if (!hedged) {
+                // When the hedge won this is a lower bound of the original latency, which still keeps slow
+                // responses in the percentile
+                hedgingPolicy.recordLatency(endpoint, System.nanoTime() - startNanos);
+            }
+            int remaining = pending.decrementAndGet();
+            boolean successful = cause == null && response.getErrorCode() == 0;
+            if (!successful && remaining > 0) {
+                return;
+            }
+            if (cause != null) {
+                future.completeExceptionally(cause);
+            } else if (future.complete(response) && hedged) {
+                hedgingPolicy.recordHedgeWin();
+            }
+        }
+    }
+
+    /**
+     * An asynchronous request retried after a backoff delay while it fails with a retryable error
+     */
+    private final class RetryingExchange {
+
+        final CompletableFuture<APIResponse> future = new CompletableFuture<>();
+        final String httpMethod;
+        final String endpoint;
+        final Supplier<CompletableFuture<APIResponse>> attempt;
+        volatile Future<?> inFlight;
+
+        RetryingExchange(String httpMethod, String endpoint, Supplier<CompletableFuture<APIResponse>> attempt) {
+            this.httpMethod = httpMethod;
+            this.endpoint = endpoint;
+            this.attempt = attempt;
+        }
+
+        CompletableFuture<APIResponse> start() {
+            retryPolicy.startRequest();
+            send(0);
+            // Cancelling the future cancels the in-flight attempt or the pending retry
+            future.whenComplete((response, cause) -> {
+                Future<?> current = inFlight;
+                if (future.isCancelled() && current != null) {
+                    current.cancel(false);
+                }
+            });
+            return future;
+        }
+
+        void send(int retries) {
+            if (future.isDone()) {
+                return;
+            }
+            CompletableFuture<APIResponse> attemptFuture = attempt.get();
+            inFlight = attemptFuture;
+            attemptFuture.whenComplete((response, cause) -> {
+                if (cause != null) {
+                    future.completeExceptionally(cause);
+                } else if (!future.isDone() && retryPolicy.shouldRetry(httpMethod, endpoint, response, retries)) {
+                    inFlight = ClientScheduler.schedule(() -> send(retries + 1), retryPolicy.backoffNanos(response, retries));
+                } else {
+                    future.complete(response);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.neutrinoapi.client;
+
+import com.neutrinoapi.client.cache.ResponseCache;
+import com.neutrinoapi.client.metrics.ClientMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Build a Neutrino API client with its own connection pool and dispatcher limits
+ *
+ * <p>The defaults scale with the number of available processors rather than using the fixed OkHttp defaults
+ * (5 idle connections, 64 requests, 5 requests per host).</p>
+ */
+public class NeutrinoAPIClientBuilder {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Default cache TTLs for the idempotent lookup APIs
+     */
+    private static final Map<String, Duration> DEFAULT_CACHE_TTLS = Map.of(
+            "bin-lookup", Duration.ofHours(24),
+            "domain-lookup", Duration.ofHours(1),
+            "email-validate", Duration.ofHours(1),
+            "host-reputation", Duration.ofMinutes(10),
+            "ip-info", Duration.ofHours(1),
+            "phone-validate", Duration.ofHours(24),
+            "ua-lookup", Duration.ofHours(24));
+
+    final String userID;
+    final String apiKey;
+    String baseURL = NeutrinoAPIClient.MULTICLOUD_ENDPOINT;
+    EndpointGroup endpointGroup;
+    HedgingPolicy hedgingPolicy;
+    RetryPolicy retryPolicy;
+    ConcurrencyLimiter concurrencyLimiter;
+    RequestCoalescer requestCoalescer;
+    int batchConcurrency;
+    int maxIdleConnections = Math.max(5, CORES * 2);
+    Duration keepAlive = Duration.ofMinutes(5);
+    int maxRequests = Math.max(64, CORES * 16);
+    int maxRequestsPerHost = Math.max(5, CORES * 4);
+    ExecutorService executor;
+    boolean virtualThreads;
+    boolean http2PriorKnowledge;
+    int downloadBufferSize = NeutrinoAPIClient.DEFAULT_DOWNLOAD_BUFFER_SIZE;
+    FsyncPolicy fsyncPolicy = FsyncPolicy.NEVER;
+    DownloadCompression downloadCompression = DownloadCompression.NONE;
+    ResponseCache cache;
+    ClientMetrics metrics;
+    final Map<String, Duration> cacheTTLs = new HashMap<>(DEFAULT_CACHE_TTLS);
+
+    /**
+     * Start building an API client
+     *
+     * @param userID from Neutrino API admin
+     * @param APIKey from Neutrino API admin
+     */
+    NeutrinoAPIClientBuilder(String userID, String APIKey) {
+        this.userID = Objects.requireNonNull(userID, "userID");
+        this.apiKey = Objects.requireNonNull(APIKey, "APIKey");
+    }
+
+    /**
+     * Override the API's baseURL default
+     */
+    public NeutrinoAPIClientBuilder baseURL(String baseURL) {
+        this.baseURL = Objects.requireNonNull(baseURL, "baseURL");
+        return this;
+    }
+
+    /**
+     * Route requests across a group of base URLs with automatic failover, e.g. {@link EndpointGroup#failover()},
+     * the baseURL is ignored when an endpoint group is set
+     */
+    public NeutrinoAPIClientBuilder endpointGroup(EndpointGroup endpointGroup) {
+        this.endpointGroup = Objects.requireNonNull(endpointGroup, "endpointGroup");
+        return this;
+    }
+
+    /**
+     * Hedge slow requests to the fast lookup APIs, best combined with an endpoint group so the hedge request goes to
+     * an alternate endpoint
+     */
+    public NeutrinoAPIClientBuilder hedging(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = Objects.requireNonNull(hedgingPolicy, "hedgingPolicy");
+        return this;
+    }
+
+    /**
+     * Retry requests which fail with a transient error
+     */
+    public NeutrinoAPIClientBuilder retry(RetryPolicy retryPolicy) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy, "retryPolicy");
+        return this;
+    }
+
+    /**
+     * Adapt the number of in-flight requests to the API's concurrency limits, queuing or rejecting requests locally
+     * instead of sending requests which would be refused
+     */
+    public NeutrinoAPIClientBuilder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter, "concurrencyLimiter");
+        return this;
+    }
+
+    /**
+     * Send identical concurrent GET requests once, sharing the response between them
+     */
+    public NeutrinoAPIClientBuilder coalescing(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = Objects.requireNonNull(requestCoalescer, "requestCoalescer");
+        return this;
+    }
+
+    /**
+     * The maximum number of idle connections kept in the connection pool
+     */
+    public NeutrinoAPIClientBuilder maxIdleConnections(int maxIdleConnections) {
+        if (maxIdleConnections < 0) {
+            throw new IllegalArgumentException("maxIdleConnections < 0: " + maxIdleConnections);
+        }
+        this.maxIdleConnections = maxIdleConnections;
+        return this;
+    }
+
+    /**
+     * How long an idle connection is kept alive in the connection pool
+     */
+    public NeutrinoAPIClientBuilder keepAlive(Duration keepAlive) {
+        if (keepAlive.isNegative() || keepAlive.isZero()) {
+            throw new IllegalArgumentException("keepAlive <= 0: " + keepAlive);
+        }
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    /**
+     * The maximum number of requests executed concurrently by the dispatcher
+     */
+    public NeutrinoAPIClientBuilder maxRequests(int maxRequests) {
+        if (maxRequests < 1) {
+            throw new IllegalArgumentException("maxRequests < 1: " + maxRequests);
+        }
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * The maximum number of requests executed concurrently against each API host
+     */
+    public NeutrinoAPIClientBuilder maxRequestsPerHost(int maxRequestsPerHost) {
+        if (maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException("maxRequestsPerHost < 1: " + maxRequestsPerHost);
+        }
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * The maximum number of requests of a batch sent concurrently, defaults to the maximum requests per host
+     */
+    public NeutrinoAPIClientBuilder batchConcurrency(int batchConcurrency) {
+        if (batchConcurrency < 1) {
+            throw new IllegalArgumentException("batchConcurrency < 1: " + batchConcurrency);
+        }
+        this.batchConcurrency = batchConcurrency;
+        return this;
+    }
+
+    /**
+     * The executor running asynchronous requests, defaults to the OkHttp dispatcher's own thread pool, replaces
+     * {@link #virtualThreads()}
+     *
+     * <p>The executor stays owned by the caller, {@link NeutrinoAPIClient#close()} does not shut it down.</p>
+     */
+    public NeutrinoAPIClientBuilder executor(ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.virtualThreads = false;
+        return this;
+    }
+
+    /**
+     * Run asynchronous requests on virtual threads, requires Java 21 or later, see {@link VirtualThreads}
+     *
+     * <p>Synchronous requests always run on the calling thread, call them from a virtual thread to block a virtual
+     * thread rather than a platform thread. Each client built gets its own executor, shut down when it is closed.</p>
+     *
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public NeutrinoAPIClientBuilder virtualThreads() {
+        if (!VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later, running on " + Runtime.version());
+        }
+        this.executor = null;
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /**
+     * Use cleartext HTTP/2 without negotiating it first (h2c with prior knowledge), only for local servers which
+     * support it such as the mock server, takes precedence over the HTTP/1.1 restriction of {@link #virtualThreads()}
+     */
+    public NeutrinoAPIClientBuilder http2PriorKnowledge() {
+        this.http2PriorKnowledge = true;
+        return this;
+    }
+
+    /**
+     * The buffer size used to write file downloads, defaults to 64 KiB
+     */
+    public NeutrinoAPIClientBuilder downloadBufferSize(int downloadBufferSize) {
+        if (downloadBufferSize < 1024) {
+            throw new IllegalArgumentException("downloadBufferSize < 1024: " + downloadBufferSize);
+        }
+        this.downloadBufferSize = downloadBufferSize;
+        return this;
+    }
+
+    /**
+     * Whether file downloads are forced to storage before the response is returned, defaults to never
+     */
+    public NeutrinoAPIClientBuilder fsync(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = Objects.requireNonNull(fsyncPolicy, "fsyncPolicy");
+        return this;
+    }
+
+    /**
+     * Whether the dataset download APIs are gzip compressed on the wire, and if so whether the file is stored
+     * compressed, defaults to uncompressed
+     */
+    public NeutrinoAPIClientBuilder downloadCompression(DownloadCompression downloadCompression) {
+        this.downloadCompression = Objects.requireNonNull(downloadCompression, "downloadCompression");
+        return this;
+    }
+
+    /**
+     * Cache responses of the lookup APIs (ip-info, bin-lookup, ua-lookup, phone-validate, email-validate,
+     * host-reputation and domain-lookup), see {@link com.neutrinoapi.client.cache.TinyLFUCache}
+     */
+    public NeutrinoAPIClientBuilder cache(ResponseCache cache) {
+        this.cache = Objects.requireNonNull(cache, "cache");
+        return this;
+    }
+
+    /**
+     * Override how long responses of an endpoint are cached, a zero TTL disables caching for that endpoint
+     *
+     * @param endpoint the API endpoint, e.g. "ip-info"
+     * @param ttl how long responses stay cached
+     */
+    public NeutrinoAPIClientBuilder cacheTTL(String endpoint, Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl < 0: " + ttl);
+        }
+        cacheTTLs.put(Objects.requireNonNull(endpoint, "endpoint"), ttl);
+        return this;
+    }
+
+    /**
+     * Record per-endpoint latency, error codes, bytes, cache hits and in-flight requests, see
+     * {@link com.neutrinoapi.client.metrics.InMemoryClientMetrics}
+     */
+    public NeutrinoAPIClientBuilder metrics(ClientMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+        return this;
+    }
+
+    /**
+     * Build the API client, close it to release its connection pool and threads
+     */
+    public NeutrinoAPIClient build() {
+        return new NeutrinoAPIClient(this);
+    }
+
+    /**
+     * Build the HTTP client with its own connection pool and dispatcher
+     */
+    OkHttpClient buildHttpClient() {
+        Dispatcher dispatcher;
+        if (executor != null) {
+            dispatcher = new Dispatcher(executor);
+        } else if (virtualThreads) {
+            dispatcher = new Dispatcher(VirtualThreads.newExecutor());
+        } else {
+            dispatcher = new Dispatcher();
+        }
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        OkHttpClient.Builder httpClient = NeutrinoAPIClient.defaultHttpClient().newBuilder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher);
+        if (http2PriorKnowledge) {
+            httpClient.protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        } else if (virtualThreads && VirtualThreads.monitorsPin()) {
+            // HTTP/2 streams wait in a monitor, which pins virtual threads before Java 24
+            httpClient.protocols(List.of(Protocol.HTTP_1_1));
+        }
+        if (metrics != null) {
+            httpClient.eventListenerFactory(CallEventListener.factory(metrics));
+        }
+        return httpClient.build();
+    }
+}
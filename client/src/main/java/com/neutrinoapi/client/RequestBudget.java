@@ -0,0 +1,42 @@
+package com.neutrinoapi.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket capping extra requests (retries, hedges) to a fraction of the original requests
+ *
+ * <p>Each original request deposits a fraction of a token, each extra request withdraws a whole token. Tokens are
+ * counted in thousandths so the bucket is a single atomic long. The bucket starts full.</p>
+ */
+final class RequestBudget {
+
+    private static final long MILLI_TOKENS = 1000;
+
+    private final long depositMilliTokens;
+    private final long maxMilliTokens;
+    private final AtomicLong milliTokens;
+
+    /**
+     * @param ratio the fraction of original requests which may be followed by an extra request
+     * @param maxTokens the most extra requests which can be saved up for a burst
+     */
+    RequestBudget(double ratio, long maxTokens) {
+        this.depositMilliTokens = Math.max(1, Math.round(ratio * MILLI_TOKENS));
+        this.maxMilliTokens = maxTokens * MILLI_TOKENS;
+        this.milliTokens = new AtomicLong(maxMilliTokens);
+    }
+
+    /**
+     * Count an original request
+     */
+    void deposit() {
+        milliTokens.getAndUpdate(current -> Math.min(maxMilliTokens, current + depositMilliTokens));
+    }
+
+    /**
+     * Take an extra request from the budget, returns false if the budget is used up
+     */
+    boolean tryWithdraw() {
+        return milliTokens.getAndUpdate(current -> current >= MILLI_TOKENS ? current - MILLI_TOKENS : current) >= MILLI_TOKENS;
+    }
+}
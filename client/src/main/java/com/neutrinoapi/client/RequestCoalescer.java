@@ -0,0 +1,181 @@
+package com.neutrinoapi.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesce identical concurrent GET requests (single-flight), so only the first is sent and the others share its
+ * response
+ *
+ * <p>A request is identical when it has the same API, parameters and response type, the same key used by the response
+ * cache. Requests only share a response while it is in flight, a request made after the response arrived is sent
+ * again (use a response cache to reuse completed responses). Cancelling an asynchronous request only cancels the
+ * shared request once every request sharing it has been cancelled.</p>
+ */
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<String, Call> calls = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder collapsedCount = new LongAdder();
+
+    /**
+     * Number of requests eligible for coalescing
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Number of requests which shared an identical in-flight request instead of being sent
+     */
+    public long getCollapsedCount() {
+        return collapsedCount.sum();
+    }
+
+    /**
+     * Number of distinct requests currently in flight
+     */
+    public int getInFlight() {
+        return calls.size();
+    }
+
+    /**
+     * Send the request, or wait for the response of an identical in-flight request
+     */
+    APIResponse execute(String key, Supplier<APIResponse> request) {
+        requestCount.increment();
+        Call call = new Call();
+        CompletableFuture<APIResponse> shared = joinInFlight(key, call);
+        if (shared != null) {
+            try {
+                return shared.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            APIResponse response = request.get();
+            call.response.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            call.response.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Send the request asynchronously, or share the response of an identical in-flight request
+     */
+    CompletableFuture<APIResponse> executeAsync(String key, Supplier<CompletableFuture<APIResponse>> request) {
+        requestCount.increment();
+        Call call = new Call();
+        CompletableFuture<APIResponse> shared = joinInFlight(key, call);
+        if (shared != null) {
+            return shared;
+        }
+        CompletableFuture<APIResponse> future = call.newSubscriber(key, false);
+        CompletableFuture<APIResponse> source;
+        try {
+            source = request.get();
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, call);
+            call.response.completeExceptionally(e);
+            throw e;
+        }
+        call.source = source;
+        source.whenComplete((response, cause) -> {
+            calls.remove(key, call);
+            if (cause != null) {
+                call.response.completeExceptionally(cause);
+            } else {
+                call.response.complete(response);
+            }
+        });
+        if (future.isCancelled()) {
+            // Cancelled before the source was set
+            source.cancel(false);
+        }
+        return future;
+    }
+
+    /**
+     * Register the call for the key, or subscribe to the identical call already in flight
+     *
+     * @return the shared response, or null if the call was registered and must be sent
+     */
+    private CompletableFuture<APIResponse> joinInFlight(String key, Call call) {
+        while (true) {
+            Call existing = calls.putIfAbsent(key, call);
+            if (existing == null) {
+                return null;
+            }
+            CompletableFuture<APIResponse> shared = existing.subscribe(key);
+            if (shared != null) {
+                collapsedCount.increment();
+                return shared;
+            }
+            // Every subscriber cancelled the existing call
+            calls.remove(key, existing);
+        }
+    }
+
+    /**
+     * One in-flight request and the number of requests sharing it which have not been cancelled
+     */
+    private final class Call {
+
+        final CompletableFuture<APIResponse> response = new CompletableFuture<>();
+        final AtomicInteger subscribers = new AtomicInteger(1);
+        volatile CompletableFuture<APIResponse> source;
+
+        /**
+         * A future of the shared response, cancelling it only cancels the shared request if it is the last subscriber
+         *
+         * @return the future, or null if the call has already been abandoned by every subscriber
+         */
+        CompletableFuture<APIResponse> subscribe(String key) {
+            int count;
+            do {
+                count = subscribers.get();
+                if (count == 0) {
+                    return null;
+                }
+            } while (!subscribers.compareAndSet(count, count + 1));
+            return newSubscriber(key, true);
+        }
+
+        /**
+         * A future of the shared response for a subscriber already counted, without the call timings unless it is the
+         * subscriber which sent the request
+         */
+        CompletableFuture<APIResponse> newSubscriber(String key, boolean shared) {
+            CompletableFuture<APIResponse> future = new CompletableFuture<>();
+            response.whenComplete((result, cause) -> {
+                if (cause != null) {
+                    future.completeExceptionally(cause);
+                } else {
+                    future.complete(shared ? result.withoutTimings() : result);
+                }
+            });
+            future.whenComplete((result, cause) -> {
+                if (future.isCancelled() && subscribers.decrementAndGet() == 0) {
+                    calls.remove(key, this);
+                    CompletableFuture<APIResponse> sending = source;
+                    if (sending != null) {
+                        sending.cancel(false);
+                    }
+                }
+            });
+            return future;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.neutrinoapi.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+
+/**
+ * The immutable parts of every request of a client: the parsed URL of each base URL and endpoint, and the
+ * authentication headers
+ *
+ * <p>Each URL is parsed on first use and reused after that, so building a request does not format or parse the URL
+ * or validate the headers again.</p>
+ */
+final class RequestTemplates {
+
+    private final Headers headers;
+    private final Map<String, Map<String, HttpUrl>> urls = new ConcurrentHashMap<>();
+
+    RequestTemplates(String userID, String apiKey) {
+        this.headers = new Headers.Builder()
+                .add("User-ID", userID)
+                .add("API-Key", apiKey)
+                .build();
+    }
+
+    /**
+     * The headers sent with every request
+     */
+    Headers headers() {
+        return headers;
+    }
+
+    /**
+     * The URL of the endpoint at the base URL, or null if it can not be parsed
+     */
+    HttpUrl url(String baseURL, String endpoint) {
+        Map<String, HttpUrl> endpoints = urls.get(baseURL);
+        if (endpoints == null) {
+            endpoints = urls.computeIfAbsent(baseURL, key -> new ConcurrentHashMap<>());
+        }
+        HttpUrl url = endpoints.get(endpoint);
+        if (url == null) {
+            // Unparseable URLs are not cached, they fail every request anyway
+            url = HttpUrl.parse(baseURL + endpoint);
+            if (url != null) {
+                endpoints.putIfAbsent(endpoint, url);
+            }
+        }
+        return url;
+    }
+}
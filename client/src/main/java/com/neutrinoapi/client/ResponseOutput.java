@@ -0,0 +1,242 @@
+package com.neutrinoapi.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+import okio.ForwardingSource;
+import okio.GzipSource;
+import okio.Okio;
+
+/**
+ * Where the body of a file output API response goes, a file or a {@link BodyConsumer}
+ */
+abstract class ResponseOutput {
+
+    static final String PART_SUFFIX = ".part";
+    static final String VALIDATOR_SUFFIX = ".validator";
+
+    private static final int HTTP_PARTIAL_CONTENT = 206;
+    private static final ByteString GZIP_MAGIC = ByteString.of((byte) 0x1f, (byte) 0x8b);
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+    /**
+     * Write the body of a successful response, returning the number of bytes written
+     */
+    abstract long write(Response response, ResponseBody body) throws IOException;
+
+    /**
+     * The file the body was written to, null if it was streamed to a consumer
+     */
+    abstract Path getFile();
+
+    /**
+     * Can the output be written again if the request is retried
+     */
+    abstract boolean isRepeatable();
+
+    /**
+     * Add any headers the output needs to the request, called for every attempt
+     */
+    void prepare(Request.Builder request) {
+    }
+
+    /**
+     * The request failed with an error status
+     */
+    void rejected(int statusCode) {
+    }
+
+    static ResponseOutput toFile(Path outputFilePath, int bufferSize, FsyncPolicy fsync) {
+        return toFile(outputFilePath, bufferSize, fsync, false);
+    }
+
+    /**
+     * Write the body to the file, decompressing it while it is written if requested and the body is gzip compressed
+     */
+    static ResponseOutput toFile(Path outputFilePath, int bufferSize, FsyncPolicy fsync, boolean decompress) {
+        return new ResponseOutput() {
+            @Override
+            long write(Response response, ResponseBody body) throws IOException {
+                BufferedSource source = body.source();
+                if (decompress && source.rangeEquals(0, GZIP_MAGIC)) {
+                    return FileDownload.write(Okio.buffer(new GzipSource(source)), -1, outputFilePath, 0, bufferSize, fsync);
+                }
+                return FileDownload.write(source, body.contentLength(), outputFilePath, 0, bufferSize, fsync);
+            }
+
+            @Override
+            Path getFile() {
+                return outputFilePath;
+            }
+
+            @Override
+            boolean isRepeatable() {
+                return true;
+            }
+        };
+    }
+
+    static ResponseOutput toConsumer(BodyConsumer consumer) {
+        return new ResponseOutput() {
+            @Override
+            long write(Response response, ResponseBody body) throws IOException {
+                CountingSource counting = new CountingSource(body.source());
+                consumer.accept(Okio.buffer(counting));
+                return counting.count;
+            }
+
+            @Override
+            Path getFile() {
+                return null;
+            }
+
+            @Override
+            boolean isRepeatable() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Download to a partial file next to the output file, resuming from its end with a Range request after a failure
+     *
+     * <p>The ETag or Last-Modified validator of the response is kept in a ".validator" file next to the partial file
+     * and sent as If-Range, so the server only continues the download if the file has not changed since. A partial
+     * file without a validator can not be resumed safely and is discarded. If the server sends the whole file instead
+     * the download starts over, if it can not satisfy the range the partial file is discarded so the next attempt
+     * starts over. The partial file is moved to the output file once complete.</p>
+     */
+    static ResponseOutput toResumableFile(Path outputFilePath, int bufferSize, FsyncPolicy fsync) {
+        Path partFile = outputFilePath.resolveSibling(outputFilePath.getFileName() + PART_SUFFIX);
+        Path validatorFile = partFile.resolveSibling(partFile.getFileName() + VALIDATOR_SUFFIX);
+        return new ResponseOutput() {
+            @Override
+            void prepare(Request.Builder request) {
+                long offset = partFile.toFile().length();
+                if (offset == 0) {
+                    return;
+                }
+                String validator = readValidator(validatorFile);
+                if (validator == null) {
+                    discard(partFile, validatorFile);
+                    return;
+                }
+                request.header("Range", "bytes=" + offset + "-");
+                request.header("If-Range", validator);
+            }
+
+            @Override
+            long write(Response response, ResponseBody body) throws IOException {
+                long offset = resumeOffset(response);
+                if (offset < 0) {
+                    discard(partFile, validatorFile);
+                    throw new IOException("Unexpected Content-Range: " + response.header("Content-Range"));
+                }
+                if (offset == 0) {
+                    // A new download, remember what it is a download of before writing any of it
+                    String validator = validator(response);
+                    if (validator == null) {
+                        Files.deleteIfExists(validatorFile);
+                    } else {
+                        Files.writeString(validatorFile, validator, StandardCharsets.UTF_8);
+                    }
+                }
+                long written = FileDownload.write(body.source(), body.contentLength(), partFile, offset, bufferSize, fsync);
+                try {
+                    Files.move(partFile, outputFilePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(partFile, outputFilePath, StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.deleteIfExists(validatorFile);
+                return offset + written;
+            }
+
+            @Override
+            void rejected(int statusCode) {
+                if (statusCode == HTTP_RANGE_NOT_SATISFIABLE) {
+                    discard(partFile, validatorFile);
+                }
+            }
+
+            @Override
+            Path getFile() {
+                return outputFilePath;
+            }
+
+            @Override
+            boolean isRepeatable() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Where the response continues the partial file, 0 for a full response and -1 for a partial response which does
+     * not start where the request asked
+     */
+    private static long resumeOffset(Response response) {
+        String range = response.request().header("Range");
+        if (response.code() != HTTP_PARTIAL_CONTENT || range == null) {
+            return 0;
+        }
+        // Range is "bytes=<offset>-", Content-Range is "bytes <offset>-<last>/<length>"
+        String offset = range.substring("bytes=".length(), range.length() - 1);
+        String contentRange = response.header("Content-Range");
+        return contentRange != null && contentRange.startsWith("bytes " + offset + "-") ? Long.parseLong(offset) : -1;
+    }
+
+    /**
+     * The validator to send as If-Range when resuming the response, a strong ETag or else the Last-Modified date
+     */
+    private static String validator(Response response) {
+        String etag = response.header("ETag");
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+        return response.header("Last-Modified");
+    }
+
+    private static String readValidator(Path validatorFile) {
+        try {
+            String validator = Files.readString(validatorFile, StandardCharsets.UTF_8).trim();
+            return validator.isEmpty() ? null : validator;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void discard(Path partFile, Path validatorFile) {
+        partFile.toFile().delete();
+        validatorFile.toFile().delete();
+    }
+
+    /**
+     * Count the bytes read by the consumer, reads move whole segments so nothing is copied
+     */
+    private static final class CountingSource extends ForwardingSource {
+
+        long count;
+
+        CountingSource(BufferedSource delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.neutrinoapi.client;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retry failed requests with exponential backoff and full jitter
+ *
+ * <p>Only transient errors are retried: connection and timeout errors, too many concurrent requests, server errors
+ * and maintenance. Retries are capped to a fraction of all requests by a retry budget, so a widespread outage does not
+ * multiply the load on the API. APIs with side effects (SMS Verify, Phone Verify and Phone Playback) are never retried
+ * unless explicitly allowed, as a retried request may send a second message or call.</p>
+ *
+ * <p>A POST request is only retried when it failed before the API could have processed it: it could not connect, or
+ * the API rejected it as too many concurrent requests, not responding or in maintenance. After a read timeout or a
+ * network or server error the request may already have been processed, so it is not retried unless explicitly allowed
+ * for the API with {@link #allowPostRetries(String)}.</p>
+ */
+public class RetryPolicy {
+
+    /**
+     * APIs which are not safe to send twice
+     */
+    public static final Set<String> NON_IDEMPOTENT_ENDPOINTS = Set.of("phone-playback", "phone-verify", "sms-verify");
+
+    private static final Set<Integer> RETRYABLE_ERROR_CODES = Set.of(
+            APIErrorCode.NOT_RESPONDING,
+            APIErrorCode.CONCURRENT,
+            APIErrorCode.INTERNAL_SERVER_ERROR,
+            APIErrorCode.SERVER_OFFLINE,
+            APIErrorCode.CONNECT_TIMEOUT,
+            APIErrorCode.READ_TIMEOUT,
+            APIErrorCode.TIMEOUT,
+            APIErrorCode.DNS_LOOKUP_FAILED,
+            APIErrorCode.NETWORK_IO_ERROR);
+
+    // Errors which mean the API did not process the request, so even a POST may be sent again
+    private static final Set<Integer> NOT_PROCESSED_ERROR_CODES = Set.of(
+            APIErrorCode.NOT_RESPONDING,
+            APIErrorCode.CONCURRENT,
+            APIErrorCode.SERVER_OFFLINE,
+            APIErrorCode.CONNECT_TIMEOUT,
+            APIErrorCode.DNS_LOOKUP_FAILED);
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final long NOT_RESPONDING_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long MAX_BURST_RETRIES = 10;
+
+    private final int maxRetries;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final RequestBudget budget;
+    private final Set<String> allowedEndpoints = ConcurrentHashMap.newKeySet();
+    private final Set<String> postRetryEndpoints = ConcurrentHashMap.newKeySet();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+
+    /**
+     * Retry up to 3 times, backing off from 100ms up to 5s, for at most 20% of requests
+     */
+    public RetryPolicy() {
+        this(3, Duration.ofMillis(100), Duration.ofSeconds(5), 0.2);
+    }
+
+    /**
+     * Create a retry policy
+     *
+     * @param maxRetries the maximum number of retries of a request
+     * @param initialBackoff the backoff cap of the first retry, doubled for each further retry
+     * @param maxBackoff the maximum backoff cap
+     * @param budget the maximum number of retries as a fraction of requests, e.g. 0.2
+     */
+    public RetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff, double budget) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries < 0: " + maxRetries);
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("invalid backoff: " + initialBackoff + " to " + maxBackoff);
+        }
+        if (budget <= 0) {
+            throw new IllegalArgumentException("budget <= 0: " + budget);
+        }
+        this.maxRetries = maxRetries;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.budget = new RequestBudget(budget, MAX_BURST_RETRIES);
+    }
+
+    /**
+     * Allow retries of an API with side effects, e.g. "sms-verify"
+     */
+    public RetryPolicy allowRetries(String endpoint) {
+        allowedEndpoints.add(endpoint);
+        return this;
+    }
+
+    /**
+     * Allow retries of POST requests to an API after errors where the request may already have been processed, e.g. a
+     * read timeout, only for APIs where processing a request twice is harmless
+     */
+    public RetryPolicy allowPostRetries(String endpoint) {
+        postRetryEndpoints.add(Objects.requireNonNull(endpoint, "endpoint"));
+        return this;
+    }
+
+    /**
+     * Is this error transient, so the same request may succeed if retried
+     *
+     * <p>Non-JSON gateway errors are only transient for 5xx and 429 responses.</p>
+     */
+    public static boolean isRetryable(APIResponse response) {
+        int errorCode = response.getErrorCode();
+        if (errorCode == APIErrorCode.API_GATEWAY_ERROR) {
+            return response.getHttpStatusCode() >= 500 || response.getHttpStatusCode() == HTTP_TOO_MANY_REQUESTS;
+        }
+        return RETRYABLE_ERROR_CODES.contains(errorCode);
+    }
+
+    /**
+     * Number of requests sent with this policy, not counting retries
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Number of retries sent
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Number of retryable errors which were not retried because the retry budget was used up
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    /**
+     * Count a request towards the retry budget
+     */
+    void startRequest() {
+        requestCount.increment();
+        budget.deposit();
+    }
+
+    /**
+     * Did the API reject the request without processing it
+     */
+    private static boolean isNotProcessed(APIResponse response) {
+        int errorCode = response.getErrorCode();
+        if (errorCode == APIErrorCode.API_GATEWAY_ERROR) {
+            return response.getHttpStatusCode() == HTTP_TOO_MANY_REQUESTS;
+        }
+        return NOT_PROCESSED_ERROR_CODES.contains(errorCode);
+    }
+
+    /**
+     * Should the response be retried, taking the retry from the budget if so
+     *
+     * @param retries the number of retries already made
+     */
+    boolean shouldRetry(String httpMethod, String endpoint, APIResponse response, int retries) {
+        if (retries >= maxRetries || !isRetryable(response)) {
+            return false;
+        }
+        if (NON_IDEMPOTENT_ENDPOINTS.contains(endpoint) && !allowedEndpoints.contains(endpoint)) {
+            return false;
+        }
+        if (httpMethod.equals("POST") && !isNotProcessed(response) && !postRetryEndpoints.contains(endpoint)) {
+            return false;
+        }
+        if (!budget.tryWithdraw()) {
+            budgetExhaustedCount.increment();
+            return false;
+        }
+        retryCount.increment();
+        return true;
+    }
+
+    /**
+     * How long to wait before a retry, a random delay up to the exponential backoff cap
+     *
+     * @param retries the number of retries already made
+     */
+    long backoffNanos(APIResponse response, int retries) {
+        long cap = maxBackoffNanos;
+        if (retries < Long.SIZE - 1 && initialBackoffNanos <= maxBackoffNanos >> retries) {
+            cap = initialBackoffNanos << retries;
+        }
+        long delay = cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+        if (response.getErrorCode() == APIErrorCode.NOT_RESPONDING) {
+            // The API asks for a 5 second wait
+            delay = Math.max(delay, NOT_RESPONDING_DELAY_NANOS);
+        }
+        return delay;
+    }
+}
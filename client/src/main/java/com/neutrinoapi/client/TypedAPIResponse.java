@@ -0,0 +1,57 @@
+package com.neutrinoapi.client;
+
+import java.util.Optional;
+
+/**
+ * API response payload with the response data read into a typed result
+ *
+ * <p>The result is read directly from the response stream, so {@link #getData()} is always empty for a typed
+ * response. The error details are the same as for any other API response.</p>
+ *
+ * @param <T> the response model, see {@link com.neutrinoapi.client.model.ResponseModels}
+ */
+public class TypedAPIResponse<T> extends APIResponse {
+
+    private final T result;
+
+    public TypedAPIResponse(T result, String contentType, int httpStatusCode, int errorCode, String errorMessage, Throwable errorCause) {
+        this(result, contentType, httpStatusCode, errorCode, errorMessage, errorCause, null);
+    }
+
+    TypedAPIResponse(T result, String contentType, int httpStatusCode, int errorCode, String errorMessage, Throwable errorCause, CallTimings timings) {
+        super(null, null, contentType, httpStatusCode, errorCode, errorMessage, errorCause, timings);
+        this.result = result;
+    }
+
+    /**
+     * The typed response data
+     */
+    public Optional<T> getResult() {
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Create a typed API response for the result
+     */
+    public static <T> TypedAPIResponse<T> of(int statusCode, String contentType, T result) {
+        return new TypedAPIResponse<>(result, contentType, statusCode, 0, "", null);
+    }
+
+    /**
+     * Create a typed API response from an API response, only the error details of an untyped response are kept
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypedAPIResponse<T> of(APIResponse response) {
+        if (response instanceof TypedAPIResponse) {
+            return (TypedAPIResponse<T>) response;
+        }
+        return new TypedAPIResponse<>(null, response.getContentType(), response.getHttpStatusCode(), response.getErrorCode(),
+                response.getErrorMessage(), response.getErrorCause().orElse(null), response.getTimings().orElse(null));
+    }
+
+    @Override
+    TypedAPIResponse<T> withTimings(CallTimings timings) {
+        return new TypedAPIResponse<>(result, getContentType(), getHttpStatusCode(), getErrorCode(), getErrorMessage(),
+                getErrorCause().orElse(null), timings);
+    }
+}
@@ -0,0 +1,66 @@
+package com.neutrinoapi.client;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual thread support on Java 21 and later, while the client itself still runs on Java 11
+ *
+ * <p>On Java 21 to 23 a virtual thread blocked inside a {@code synchronized} block or {@link Object#wait()} pins its
+ * carrier thread. The OkHttp HTTP/1.1 read and write path and Okio timeouts block without holding a monitor, but
+ * OkHttp's HTTP/2 streams wait for response data with {@link Object#wait()}, so clients built with
+ * {@link NeutrinoAPIClientBuilder#virtualThreads()} only use HTTP/1.1 before Java 24, where monitors no longer
+ * pin.</p>
+ */
+public final class VirtualThreads {
+
+    private static final int UNPINNED_MONITORS_VERSION = 24;
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Are virtual threads available, true on Java 21 and later
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Create an executor starting a new virtual thread for each task
+     *
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static ExecutorService newExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later, running on " + Runtime.version());
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Does blocking in a monitor pin the carrier thread of a virtual thread on this Java version
+     */
+    static boolean monitorsPin() {
+        return Runtime.version().feature() < UNPINNED_MONITORS_VERSION;
+    }
+
+    private static MethodHandle findNewVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.neutrinoapi.client.cache;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build cache keys from an API endpoint and its request parameters
+ */
+public final class CacheKey {
+
+    private CacheKey() {
+    }
+
+    /**
+     * Build the cache key, parameters are sorted by name and their values trimmed so equivalent requests share a key
+     *
+     * @param endpoint the API endpoint, e.g. "ip-info"
+     * @param params the API request parameters
+     * @return the cache key
+     */
+    public static String of(String endpoint, Map<String, String> params) {
+        StringBuilder key = new StringBuilder(endpoint.length() + params.size() * 24);
+        key.append(endpoint);
+        char separator = '?';
+        for (Map.Entry<String, String> param : new TreeMap<>(params).entrySet()) {
+            String value = param.getValue() == null ? "" : param.getValue().trim();
+            // Length prefix the value so no combination of parameters can produce the same key
+            key.append(separator).append(param.getKey()).append('=').append(value.length()).append(':').append(value);
+            separator = '&';
+        }
+        return key.toString();
+    }
+}
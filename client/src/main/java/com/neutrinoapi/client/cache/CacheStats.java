@@ -0,0 +1,60 @@
+package com.neutrinoapi.client.cache;
+
+/**
+ * Snapshot of the response cache counters
+ */
+public class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Number of lookups not found in the cache (including expired entries)
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Number of entries evicted to keep the cache within its maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Number of entries currently cached
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Ratio of hits to total lookups, 1.0 if there have been no lookups
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStats{hits=%d, misses=%d, evictions=%d, size=%d}", hitCount, missCount, evictionCount, size);
+    }
+}
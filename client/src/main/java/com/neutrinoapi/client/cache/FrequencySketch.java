@@ -0,0 +1,75 @@
+package com.neutrinoapi.client.cache;
+
+/**
+ * Count-min sketch of 4-bit counters estimating how often a key has been seen recently
+ *
+ * <p>Counters are halved once the number of increments reaches ten times the cache capacity, so the sketch favours
+ * recent popularity. Not thread-safe, guarded by the owning cache.</p>
+ */
+final class FrequencySketch {
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int[] SEEDS = {0x97cb3127, 0xab7d1e35, 0x9e3779b9, 0x5bd1e995};
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(int capacity) {
+        int length = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.table = new long[Math.max(1, length / 4)];
+        this.tableMask = table.length - 1;
+        this.sampleSize = Math.max(10, capacity * 10);
+    }
+
+    /**
+     * Estimated number of recent occurrences of the key hash, between 0 and 15
+     */
+    int frequency(int hash) {
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int h = rehash(hash, i);
+            frequency = Math.min(frequency, counter(h));
+        }
+        return frequency;
+    }
+
+    /**
+     * Record an occurrence of the key hash
+     */
+    void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int h = rehash(hash, i);
+            int index = (h >>> 4) & tableMask;
+            int shift = (h & 15) << 2;
+            if (((table[index] >>> shift) & 0xfL) < MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private int counter(int h) {
+        int index = (h >>> 4) & tableMask;
+        int shift = (h & 15) << 2;
+        return (int) ((table[index] >>> shift) & 0xfL);
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    private static int rehash(int hash, int i) {
+        int h = (hash + SEEDS[i]) * SEEDS[(i + 1) & 3];
+        return h ^ (h >>> 16);
+    }
+}
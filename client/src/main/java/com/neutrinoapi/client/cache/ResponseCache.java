@@ -0,0 +1,40 @@
+package com.neutrinoapi.client.cache;
+
+import com.neutrinoapi.client.APIResponse;
+import java.time.Duration;
+
+/**
+ * Client-side cache of API responses, used for idempotent lookup APIs
+ *
+ * <p>Cached responses are shared between callers so their data should be treated as read-only.
+ * Implementations must be thread-safe.</p>
+ */
+public interface ResponseCache {
+
+    /**
+     * Get the cached response for the given key
+     *
+     * @param key the cache key, see {@link CacheKey}
+     * @return the cached response, or null if not present or expired
+     */
+    APIResponse get(String key);
+
+    /**
+     * Cache a response
+     *
+     * @param key the cache key, see {@link CacheKey}
+     * @param response the response to cache
+     * @param ttl how long the response stays valid for
+     */
+    void put(String key, APIResponse response, Duration ttl);
+
+    /**
+     * Remove all cached responses
+     */
+    void invalidateAll();
+
+    /**
+     * The cache hit, miss and eviction counters
+     */
+    CacheStats stats();
+}
@@ -0,0 +1,271 @@
+package com.neutrinoapi.client.cache;
+
+import com.google.gson.JsonObject;
+import com.neutrinoapi.client.APIResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size-bounded response cache using W-TinyLFU style eviction
+ *
+ * <p>New entries enter a small LRU admission window. When the window overflows its oldest entry competes with the
+ * oldest probationary entry of the main segmented LRU, and the one seen more often recently (estimated by a
+ * {@link FrequencySketch}) is kept. Entries read again while on probation are promoted to the protected segment.
+ * This keeps popular lookups cached even under a scan of one-off keys.</p>
+ *
+ * <p>Reads do not take the lock: a hit is recorded in a striped, lossy read buffer which is replayed against the
+ * eviction policy under the lock once a stripe fills up, or by the next write. When the buffer is full or the lock is
+ * busy a read is not recorded, which only makes the recency and frequency estimates slightly less precise. Hits are
+ * deep copies of the cached JSON data, so callers may modify the response they are given.</p>
+ */
+public class TinyLFUCache implements ResponseCache {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static final int READ_BUFFER_STRIPES = Math.min(64,
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+    private static final int READ_BUFFER_SIZE = 16;
+
+    private final int maximumSize;
+    private final int maxWindow;
+    private final int maxProtected;
+    private final ConcurrentHashMap<String, Node> data;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicReferenceArray<Node> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_STRIPES * READ_BUFFER_SIZE);
+    private final AtomicInteger[] readCounts = new AtomicInteger[READ_BUFFER_STRIPES];
+
+    // Guarded by the eviction lock
+    private final FrequencySketch sketch;
+    private final Node[] heads = {new Node(), new Node(), new Node()};
+    private final int[] sizes = new int[3];
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Create a cache holding at most the given number of responses
+     *
+     * @param maximumSize the maximum number of cached responses
+     */
+    public TinyLFUCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize < 1: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.maxWindow = Math.max(1, maximumSize / 100);
+        this.maxProtected = (int) ((maximumSize - maxWindow) * 0.8);
+        this.data = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(maximumSize);
+        for (Node head : heads) {
+            head.prev = head;
+            head.next = head;
+        }
+        for (int stripe = 0; stripe < READ_BUFFER_STRIPES; stripe++) {
+            readCounts[stripe] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public APIResponse get(String key) {
+        Node node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        APIResponse response = node.response;
+        boolean expired = node.expiresAtNanos - System.nanoTime() <= 0;
+        recordRead(node);
+        if (expired) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return copyOf(response);
+    }
+
+    @Override
+    public void put(String key, APIResponse response, Duration ttl) {
+        APIResponse copy = copyOf(response);
+        long expiresAtNanos = System.nanoTime() + ttl.toNanos();
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            sketch.increment(key.hashCode());
+            Node node = data.get(key);
+            if (node != null) {
+                node.response = copy;
+                node.expiresAtNanos = expiresAtNanos;
+                onAccess(node);
+                return;
+            }
+            node = new Node();
+            node.key = key;
+            node.response = copy;
+            node.expiresAtNanos = expiresAtNanos;
+            link(node, WINDOW);
+            data.put(key, node);
+            if (sizes[WINDOW] > maxWindow) {
+                Node candidate = heads[WINDOW].next;
+                unlink(candidate);
+                link(candidate, PROBATION);
+                if (data.size() > maximumSize) {
+                    evict(candidate);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (int queue = 0; queue < heads.length; queue++) {
+                Node head = heads[queue];
+                // Unlink every entry so reads still in the read buffer are skipped
+                for (Node node = head.next; node != head; ) {
+                    Node next = node.next;
+                    node.prev = null;
+                    node.next = null;
+                    node = next;
+                }
+                head.prev = head;
+                head.next = head;
+                sizes[queue] = 0;
+            }
+            data.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), data.size());
+    }
+
+    /**
+     * Add the read to the read buffer stripe of the current thread, draining the buffer if the stripe is full
+     */
+    private void recordRead(Node node) {
+        int stripe = (Thread.currentThread().hashCode() * 0x9e3779b9 >>> 16) & (READ_BUFFER_STRIPES - 1);
+        int count = readCounts[stripe].getAndIncrement();
+        // Overwrites a read not drained yet if the stripe wrapped around
+        readBuffer.lazySet(stripe * READ_BUFFER_SIZE + (count & (READ_BUFFER_SIZE - 1)), node);
+        if ((count & (READ_BUFFER_SIZE - 1)) == READ_BUFFER_SIZE - 1 && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replay the buffered reads against the eviction policy, called with the eviction lock held
+     */
+    private void drainReadBuffer() {
+        for (int i = 0; i < readBuffer.length(); i++) {
+            Node node = readBuffer.get(i);
+            if (node == null) {
+                continue;
+            }
+            readBuffer.lazySet(i, null);
+            // Skip entries removed since they were read
+            if (node.prev == null) {
+                continue;
+            }
+            if (node.expiresAtNanos - System.nanoTime() <= 0) {
+                remove(node);
+                continue;
+            }
+            sketch.increment(node.key.hashCode());
+            onAccess(node);
+        }
+    }
+
+    /**
+     * A copy of the response whose JSON data the caller can not share with the cache
+     */
+    private static APIResponse copyOf(APIResponse response) {
+        JsonObject json = response.getData().orElse(null);
+        if (json == null) {
+            // Typed results are read-only, file and error responses hold no data
+            return response;
+        }
+        return new APIResponse(json.deepCopy(), response.getFile().orElse(null), response.getContentType(),
+                response.getHttpStatusCode(), response.getErrorCode(), response.getErrorMessage(),
+                response.getErrorCause().orElse(null));
+    }
+
+    /**
+     * Keep whichever of the window candidate and the oldest probationary entry is used more often
+     */
+    private void evict(Node candidate) {
+        Node victim = heads[PROBATION].next;
+        if (victim == candidate || victim.expiresAtNanos - System.nanoTime() <= 0) {
+            remove(victim);
+        } else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+            remove(victim);
+        } else {
+            remove(candidate);
+        }
+        evictionCount.increment();
+    }
+
+    private void onAccess(Node node) {
+        if (node.queue == PROBATION) {
+            // Promote, demoting the oldest protected entry if the protected segment is full
+            unlink(node);
+            link(node, PROTECTED);
+            if (sizes[PROTECTED] > maxProtected) {
+                Node demoted = heads[PROTECTED].next;
+                unlink(demoted);
+                link(demoted, PROBATION);
+            }
+        } else {
+            unlink(node);
+            link(node, node.queue);
+        }
+    }
+
+    private void remove(Node node) {
+        unlink(node);
+        data.remove(node.key, node);
+    }
+
+    private void link(Node node, int queue) {
+        Node head = heads[queue];
+        node.queue = queue;
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+        sizes[queue]++;
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        sizes[node.queue]--;
+    }
+
+    private static final class Node {
+        String key;
+        volatile APIResponse response;
+        volatile long expiresAtNanos;
+        int queue;
+        Node prev;
+        Node next;
+    }
+}
@@ -0,0 +1,231 @@
+package com.neutrinoapi.client.dataset;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable BIN index, sorted long keys with longest-prefix matching across 6 to 11 digit BINs
+ *
+ * <p>Each key packs the BIN length into the top byte and the BIN value into the low bits, so all BINs of one length
+ * are contiguous and sorted. Column values are interned while loading since issuers, brands and countries repeat
+ * across many BINs.</p>
+ */
+final class BINListIndex {
+
+    /**
+     * Assumed column order for a BIN list CSV file without a header row
+     */
+    static final List<String> DEFAULT_COLUMNS = List.of(
+            "bin-number", "card-brand", "card-type", "card-category", "issuer", "issuer-website", "issuer-phone",
+            "country", "country-code", "country-code3", "currency-code", "is-commercial", "is-prepaid");
+
+    static final int NOT_FOUND = -1;
+
+    private static final int MIN_DIGITS = 6;
+    private static final int MAX_DIGITS = 11;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    private final long[] keys;
+    private final String[][] rows;
+    private final String[] columns;
+
+    private BINListIndex(long[] keys, String[][] rows, String[] columns) {
+        this.keys = keys;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * An index with no BINs
+     */
+    static BINListIndex empty() {
+        return new BINListIndex(new long[0], new String[0][], DEFAULT_COLUMNS.toArray(new String[0]));
+    }
+
+    /**
+     * Find the longest BIN matching the start of a card number
+     *
+     * @param number a BIN or card number, only the leading digits are used
+     * @return the row, or {@link #NOT_FOUND}
+     */
+    int find(CharSequence number) {
+        long value = 0;
+        int digits = 0;
+        for (int i = 0; i < number.length() && digits < MAX_DIGITS; i++) {
+            char c = number.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                digits++;
+            } else if (c != ' ' && c != '-') {
+                return NOT_FOUND;
+            }
+        }
+        for (int length = digits; length >= MIN_DIGITS; length--) {
+            int found = Arrays.binarySearch(keys, key(length, value / POWERS_OF_TEN[digits - length]));
+            if (found >= 0) {
+                return found;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Number of BINs loaded
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * The column names, in row order
+     */
+    String[] columns() {
+        return columns;
+    }
+
+    /**
+     * The column values of a row
+     */
+    String[] row(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Load a BIN list CSV file as produced by the BIN List Download API
+     *
+     * <p>If the first line is not a BIN it is used as the header row, otherwise {@link #DEFAULT_COLUMNS} is assumed.
+     * BINs of 6 to 11 digits are indexed, anything else is skipped.</p>
+     *
+     * @param csv the CSV data
+     * @return the compiled index
+     */
+    static BINListIndex load(Reader csv) throws IOException {
+        BufferedReader reader = csv instanceof BufferedReader ? (BufferedReader) csv : new BufferedReader(csv, 1 << 16);
+        Map<String, String> interned = new HashMap<>();
+        List<String> columns = DEFAULT_COLUMNS;
+        int binColumn = 0;
+        long[] keys = new long[1 << 16];
+        String[][] rows = new String[1 << 16][];
+        int size = 0;
+        boolean firstLine = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = splitCSV(line);
+            if (firstLine) {
+                firstLine = false;
+                if (parseBIN(fields[0]) < 0) {
+                    columns = new ArrayList<>(fields.length);
+                    for (String field : fields) {
+                        String name = field.toLowerCase().replace(' ', '-').replace('_', '-');
+                        columns.add(name.equals("bin") ? "bin-number" : name);
+                    }
+                    binColumn = Math.max(0, columns.indexOf("bin-number"));
+                    if (!columns.contains("bin-number")) {
+                        columns.set(0, "bin-number");
+                    }
+                    continue;
+                }
+            }
+            String bin = binColumn < fields.length ? fields[binColumn] : "";
+            long value = parseBIN(bin);
+            if (value < 0) {
+                continue;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = interned.computeIfAbsent(fields[i], field -> field);
+            }
+            keys[size] = key(bin.length(), value);
+            rows[size] = fields;
+            size++;
+        }
+
+        // Sort the keys, keeping each row with its key
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        long[] unsortedKeys = keys;
+        Arrays.sort(order, (a, b) -> Long.compare(unsortedKeys[a], unsortedKeys[b]));
+        long[] sortedKeys = new long[size];
+        String[][] sortedRows = new String[size][];
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            long key = unsortedKeys[order[i]];
+            if (unique > 0 && sortedKeys[unique - 1] == key) {
+                // Duplicate BIN, the last row in the file wins
+                sortedRows[unique - 1] = rows[order[i]];
+                continue;
+            }
+            sortedKeys[unique] = key;
+            sortedRows[unique] = rows[order[i]];
+            unique++;
+        }
+        return new BINListIndex(Arrays.copyOf(sortedKeys, unique), Arrays.copyOf(sortedRows, unique), columns.toArray(new String[0]));
+    }
+
+    private static long key(int length, long value) {
+        return ((long) length << 56) | value;
+    }
+
+    /**
+     * Parse a BIN, returns -1 if it is not 6 to 11 digits
+     */
+    private static long parseBIN(String bin) {
+        if (bin.length() < MIN_DIGITS || bin.length() > MAX_DIGITS) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < bin.length(); i++) {
+            char c = bin.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Split a CSV line, handling double quoted fields
+     */
+    private static String[] splitCSV(String line) {
+        List<String> fields = new ArrayList<>(16);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields.toArray(new String[0]);
+    }
+}
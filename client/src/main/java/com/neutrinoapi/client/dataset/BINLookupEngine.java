@@ -0,0 +1,207 @@
+package com.neutrinoapi.client.dataset;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.neutrinoapi.client.APIErrorCode;
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local BIN lookup, answering BIN Lookup API queries from the downloaded BIN list
+ *
+ * <p>The BIN list (including ISO 3-letter codes and 8-digit BINs) is periodically downloaded using the BIN List
+ * Download API and compiled into a sorted index. Card numbers are matched against the longest known BIN, only
+ * falling back to the BIN Lookup API when no BIN matches or when the "customer-ip" parameter is used.</p>
+ *
+ * <pre>{@code
+ * try (BINLookupEngine bins = new BINLookupEngine(neutrinoAPI, dataDirectory)) {
+ *     bins.start(Duration.ofHours(24));
+ *     APIResponse response = bins.binLookup(Map.of("bin-number", "48334884"));
+ * }
+ * }</pre>
+ */
+public class BINLookupEngine implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final Set<String> BOOLEAN_FIELDS = Set.of("is-commercial", "is-prepaid");
+
+    private final NeutrinoAPIClient client;
+    private final DatasetRefresher refresher;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile BINListIndex index = BINListIndex.empty();
+    private volatile Instant loadedAt;
+    private volatile APIResponse lastError;
+
+    /**
+     * Create a BIN lookup engine
+     *
+     * @param client the API client used to download the BIN list and for lookups not found locally
+     * @param dataDirectory where the downloaded BIN list file is kept
+     */
+    public BINLookupEngine(NeutrinoAPIClient client, Path dataDirectory) {
+        this.client = Objects.requireNonNull(client, "client");
+        Map<String, String> params = new HashMap<>();
+        params.put("include-iso3", "true");
+        params.put("include-8digit", "true");
+        this.refresher = DatasetRefresher.binList(client, params, dataDirectory.resolve("bin-list.csv"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "neutrinoapi-bin-list");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Refresh now, then keep refreshing in the background at the given interval
+     *
+     * @param refreshInterval how often the BIN list is downloaded
+     * @return true if the initial refresh succeeded
+     */
+    public boolean start(Duration refreshInterval) {
+        boolean refreshed = refresh();
+        long intervalMs = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return refreshed;
+    }
+
+    /**
+     * Download the BIN list and swap in the new index, the current index is kept if the download fails
+     *
+     * @return true if the BIN list was refreshed
+     */
+    public boolean refresh() {
+        if (refresher.refresh() == DatasetRefresher.RefreshResult.FAILED) {
+            lastError = refresher.getLastError().orElse(null);
+            return false;
+        }
+        try {
+            load(refresher.getTarget());
+            lastError = null;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Never let a bad file kill the background refresh
+            lastError = APIResponse.of(APIErrorCode.FILE_IO_ERROR, e);
+            return false;
+        }
+    }
+
+    /**
+     * Load a previously downloaded BIN list file, e.g. to start serving before the first refresh completes
+     *
+     * @param binListFile the BIN list CSV file
+     */
+    public void load(Path binListFile) throws IOException {
+        BINListIndex loaded;
+        try (Reader reader = DatasetFiles.newReader(binListFile)) {
+            loaded = BINListIndex.load(reader);
+        }
+        index = loaded;
+        loadedAt = Instant.now();
+    }
+
+    /**
+     * Perform a BIN lookup, locally if possible, accepts the same parameters as {@link NeutrinoAPIClient#binLookup(Map)}
+     *
+     * @param params The API request parameters
+     * @return APIResponse
+     */
+    public APIResponse binLookup(Map<String, String> params) {
+        String customerIP = params.get("customer-ip");
+        if (customerIP == null || customerIP.isEmpty()) {
+            APIResponse local = lookupLocal(params.getOrDefault("bin-number", ""));
+            if (local != null) {
+                return local;
+            }
+        }
+        return client.binLookup(params);
+    }
+
+    /**
+     * Look up a BIN or card number in the local index only
+     *
+     * @param binNumber a BIN or card number
+     * @return the response data with the same shape as the BIN Lookup API, empty if no BIN matches
+     */
+    public Optional<APIResponse> lookup(String binNumber) {
+        return Optional.ofNullable(lookupLocal(binNumber));
+    }
+
+    /**
+     * The BIN list refresher, for its download metrics
+     */
+    public DatasetRefresher getRefresher() {
+        return refresher;
+    }
+
+    /**
+     * When the BIN list was last loaded, empty if it has never been loaded
+     */
+    public Optional<Instant> getLastRefresh() {
+        return Optional.ofNullable(loadedAt);
+    }
+
+    /**
+     * The error response from the most recent refresh, empty if it succeeded
+     */
+    public Optional<APIResponse> getLastError() {
+        return Optional.ofNullable(lastError);
+    }
+
+    /**
+     * Number of BINs currently loaded
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Stop the background refresh
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private APIResponse lookupLocal(String binNumber) {
+        BINListIndex current = index;
+        int row = current.find(binNumber);
+        if (row == BINListIndex.NOT_FOUND) {
+            return null;
+        }
+        String[] columns = current.columns();
+        String[] values = current.row(row);
+        JsonObject data = new JsonObject();
+        for (int i = 0; i < columns.length && i < values.length; i++) {
+            if (BOOLEAN_FIELDS.contains(columns[i])) {
+                data.addProperty(columns[i], values[i].equals("1") || values[i].equalsIgnoreCase("true"));
+            } else {
+                data.addProperty(columns[i], values[i]);
+            }
+        }
+        data.addProperty("valid", true);
+        // Customer IP fields are only set by the remote API
+        data.addProperty("ip-blocklisted", false);
+        data.add("ip-blocklists", new JsonArray());
+        data.addProperty("ip-city", "");
+        data.addProperty("ip-country", "");
+        data.addProperty("ip-country-code", "");
+        data.addProperty("ip-country-code3", "");
+        data.addProperty("ip-matches-bin", false);
+        data.addProperty("ip-region", "");
+        return APIResponse.of(200, CONTENT_TYPE, data);
+    }
+}
@@ -0,0 +1,42 @@
+package com.neutrinoapi.client.dataset;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Open downloaded dataset files, which may be stored gzip compressed
+ */
+final class DatasetFiles {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private DatasetFiles() {
+    }
+
+    /**
+     * Open a UTF-8 reader on the file, decompressing it while reading if it is gzip compressed
+     */
+    static BufferedReader newReader(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            if (magic == GZIP_MAGIC) {
+                in = new GZIPInputStream(in, BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,319 @@
+package com.neutrinoapi.client.dataset;
+
+import com.google.gson.JsonElement;
+import com.neutrinoapi.client.APIErrorCode;
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keep a downloaded dataset file up to date, only downloading it again when it has changed
+ *
+ * <p>For datasets supporting the "checksum" option (such as the IP Blocklist Download API) the current MurmurHash3
+ * checksum is polled first and the file is only downloaded when it differs from the checksum of the local copy. The
+ * checksum is kept in a ".checksum" file alongside the dataset so this survives restarts. Downloads are written to
+ * a ".download" file in the same directory, verified against the checksum and then atomically moved into place, so
+ * readers never see a partial file. With the resumable download methods an interrupted download is resumed from
+ * where it stopped by the next refresh.</p>
+ *
+ * <p>The checksum must be the 128-bit x64 MurmurHash3 as 32 hexadecimal digits, any other value fails the refresh
+ * rather than accepting a file which cannot be verified. It covers the dataset content, so a file stored gzip
+ * compressed (with {@link com.neutrinoapi.client.DownloadCompression#GZIP} or a resumable download with an
+ * "output-encoding" of gzip) is verified against the checksum of its decompressed content.</p>
+ */
+public class DatasetRefresher {
+
+    /**
+     * Suffix of the partial file written by the resumable download methods, e.g.
+     * {@link NeutrinoAPIClient#ipBlocklistDownloadResumable(Map, Path)}
+     */
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * Suffix of the file next to the partial file holding the validator it is resumed with
+     */
+    private static final String VALIDATOR_SUFFIX = ".validator";
+    private static final int HTTP_PARTIAL_CONTENT = 206;
+
+    /**
+     * Outcome of a refresh
+     */
+    public enum RefreshResult {
+        /** A new version of the dataset was downloaded */
+        UPDATED,
+        /** The dataset has not changed, nothing was downloaded */
+        UNCHANGED,
+        /** The refresh failed, see {@link #getLastError()} */
+        FAILED
+    }
+
+    /**
+     * A dataset download API method, e.g. {@link NeutrinoAPIClient#ipBlocklistDownload(Map, Path)}
+     */
+    @FunctionalInterface
+    public interface Download {
+        APIResponse download(Map<String, String> params, Path outputFilePath);
+    }
+
+    private final Download download;
+    private final Map<String, String> params;
+    private final Path target;
+    private final Path checksumFile;
+    private final Path downloadFile;
+    private final Path partFile;
+    private final boolean checksumSupported;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private String checksum;
+    private volatile Instant lastRefresh;
+    private volatile Instant lastUpdate;
+    private volatile APIResponse lastError;
+    private final AtomicLong bytesDownloaded = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final AtomicLong bytesResumed = new AtomicLong();
+    private final AtomicLong updateCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
+
+    /**
+     * Create a dataset refresher
+     *
+     * @param download the dataset download API method
+     * @param params the API request parameters
+     * @param target where the dataset file is kept
+     * @param checksumSupported whether the API supports the "checksum" option
+     */
+    public DatasetRefresher(Download download, Map<String, String> params, Path target, boolean checksumSupported) {
+        this.download = Objects.requireNonNull(download, "download");
+        this.params = Map.copyOf(params);
+        this.target = Objects.requireNonNull(target, "target").toAbsolutePath();
+        this.checksumFile = this.target.resolveSibling(this.target.getFileName() + ".checksum");
+        this.downloadFile = this.target.resolveSibling(this.target.getFileName() + ".download");
+        this.partFile = this.target.resolveSibling(this.downloadFile.getFileName() + PART_SUFFIX);
+        this.checksumSupported = checksumSupported;
+    }
+
+    /**
+     * Refresher for the IP Blocklist Download API, using checksum polling
+     */
+    public static DatasetRefresher ipBlocklist(NeutrinoAPIClient client, Map<String, String> params, Path target) {
+        return new DatasetRefresher(client::ipBlocklistDownloadResumable, params, target, true);
+    }
+
+    /**
+     * Refresher for the BIN List Download API, which does not support checksums so always downloads
+     */
+    public static DatasetRefresher binList(NeutrinoAPIClient client, Map<String, String> params, Path target) {
+        return new DatasetRefresher(client::binListDownloadResumable, params, target, false);
+    }
+
+    /**
+     * Check for a new version of the dataset and download it if it has changed
+     *
+     * @return the refresh outcome
+     */
+    public RefreshResult refresh() {
+        // A lock rather than a monitor, so a refresh running on a virtual thread does not pin its carrier thread
+        refreshLock.lock();
+        try {
+            return refreshLocked();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private RefreshResult refreshLocked() {
+        try {
+            Files.createDirectories(target.getParent());
+            String currentChecksum = null;
+            if (checksumSupported) {
+                currentChecksum = fetchChecksum();
+                if (currentChecksum == null) {
+                    return RefreshResult.FAILED;
+                }
+                if (currentChecksum.equals(localChecksum()) && Files.exists(target)) {
+                    bytesSaved.addAndGet(Files.size(target));
+                    unchangedCount.incrementAndGet();
+                    lastRefresh = Instant.now();
+                    lastError = null;
+                    return RefreshResult.UNCHANGED;
+                }
+            }
+            try {
+                APIResponse error = download(currentChecksum);
+                if (error != null && error.getHttpStatusCode() == HTTP_PARTIAL_CONTENT) {
+                    // The resumed partial file may have been from an earlier version, start over
+                    error = download(currentChecksum);
+                }
+                if (error != null) {
+                    lastError = error;
+                    return RefreshResult.FAILED;
+                }
+                moveIntoPlace(downloadFile, target);
+            } finally {
+                Files.deleteIfExists(downloadFile);
+            }
+            if (currentChecksum != null) {
+                Files.writeString(checksumFile, currentChecksum, StandardCharsets.UTF_8);
+                checksum = currentChecksum;
+            }
+            updateCount.incrementAndGet();
+            lastRefresh = Instant.now();
+            lastUpdate = lastRefresh;
+            lastError = null;
+            return RefreshResult.UPDATED;
+        } catch (IOException e) {
+            lastError = APIResponse.of(APIErrorCode.FILE_IO_ERROR, e);
+            return RefreshResult.FAILED;
+        }
+    }
+
+    /**
+     * The dataset file
+     */
+    public Path getTarget() {
+        return target;
+    }
+
+    /**
+     * When the dataset was last successfully checked, empty if it never has been
+     */
+    public Optional<Instant> getLastRefresh() {
+        return Optional.ofNullable(lastRefresh);
+    }
+
+    /**
+     * When a new version of the dataset was last downloaded, empty if it never has been
+     */
+    public Optional<Instant> getLastUpdate() {
+        return Optional.ofNullable(lastUpdate);
+    }
+
+    /**
+     * The error response from the most recent refresh, empty if it succeeded
+     */
+    public Optional<APIResponse> getLastError() {
+        return Optional.ofNullable(lastError);
+    }
+
+    /**
+     * Total bytes downloaded
+     */
+    public long getBytesDownloaded() {
+        return bytesDownloaded.get();
+    }
+
+    /**
+     * Total bytes not downloaded because the dataset had not changed
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Total bytes not downloaded again because an interrupted download was resumed
+     */
+    public long getBytesResumed() {
+        return bytesResumed.get();
+    }
+
+    /**
+     * Number of refreshes which downloaded a new version
+     */
+    public long getUpdateCount() {
+        return updateCount.get();
+    }
+
+    /**
+     * Number of refreshes which found the dataset unchanged
+     */
+    public long getUnchangedCount() {
+        return unchangedCount.get();
+    }
+
+    /**
+     * Download the dataset, resuming a previously failed download, and verify it against the checksum if there is one
+     *
+     * @return the error response, or null if the download succeeded
+     */
+    private APIResponse download(String expectedChecksum) throws IOException {
+        long partSize = Files.exists(partFile) ? Files.size(partFile) : 0;
+        APIResponse response = download.download(params, downloadFile);
+        if (response.getFile().isEmpty()) {
+            return response;
+        }
+        long resumed = response.getHttpStatusCode() == HTTP_PARTIAL_CONTENT ? partSize : 0;
+        bytesDownloaded.addAndGet(Files.size(downloadFile) - resumed);
+        bytesResumed.addAndGet(resumed);
+        if (expectedChecksum != null && !MurmurHash3.matches(downloadFile, expectedChecksum)) {
+            Files.delete(downloadFile);
+            return APIResponse.of(response.getHttpStatusCode(), response.getContentType(), APIErrorCode.FILE_IO_ERROR,
+                    "CHECKSUM MISMATCH, expected " + expectedChecksum);
+        }
+        return null;
+    }
+
+    /**
+     * Poll the current checksum of the dataset, returns null and sets the last error on failure
+     */
+    private String fetchChecksum() throws IOException {
+        Map<String, String> checksumParams = new HashMap<>(params);
+        checksumParams.put("checksum", "true");
+        Path checksumTemp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".checksum.tmp");
+        try {
+            APIResponse response = download.download(checksumParams, checksumTemp);
+            String value = null;
+            if (response.getData().isPresent()) {
+                JsonElement element = response.getData().get().get("checksum");
+                value = element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+            } else if (response.getFile().isPresent()) {
+                value = Files.readString(checksumTemp, StandardCharsets.UTF_8);
+            } else {
+                lastError = response;
+                return null;
+            }
+            if (value == null || value.isBlank()) {
+                lastError = APIResponse.of(response.getHttpStatusCode(), response.getContentType(), APIErrorCode.NO_DATA);
+                return null;
+            }
+            if (!MurmurHash3.isValid(value)) {
+                // Fail rather than download a file which cannot be verified
+                lastError = APIResponse.of(response.getHttpStatusCode(), response.getContentType(),
+                        APIErrorCode.FILE_IO_ERROR, "UNVERIFIABLE CHECKSUM, expected a " + MurmurHash3.FORMAT
+                                + " checksum but got " + value.trim());
+                return null;
+            }
+            return value.trim();
+        } finally {
+            Files.deleteIfExists(checksumTemp);
+            Files.deleteIfExists(checksumTemp.resolveSibling(checksumTemp.getFileName() + PART_SUFFIX));
+            Files.deleteIfExists(checksumTemp.resolveSibling(checksumTemp.getFileName() + PART_SUFFIX + VALIDATOR_SUFFIX));
+        }
+    }
+
+    private String localChecksum() throws IOException {
+        if (checksum == null && Files.exists(checksumFile)) {
+            checksum = Files.readString(checksumFile, StandardCharsets.UTF_8).trim();
+        }
+        return checksum;
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
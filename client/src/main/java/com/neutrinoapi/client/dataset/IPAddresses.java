@@ -0,0 +1,135 @@
+package com.neutrinoapi.client.dataset;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Parse and format IP address literals as unsigned 128-bit values, without ever doing a DNS lookup
+ *
+ * <p>IPv4 addresses are held in the low 32 bits of {@code lo} with {@code hi} set to zero.</p>
+ */
+final class IPAddresses {
+
+    private static final long V4_MAPPED_HI = 0L;
+    private static final long V4_MAPPED_LO_PREFIX = 0x0000ffff00000000L;
+
+    private IPAddresses() {
+    }
+
+    /**
+     * Parse an IPv4 dotted-quad literal, returns -1 if the literal is not valid
+     */
+    static long parseIPv4(CharSequence ip, int start, int end) {
+        long address = 0;
+        int octets = 0;
+        int value = -1;
+        for (int i = start; i < end; i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value < 0 ? c - '0' : value * 10 + (c - '0');
+                if (value > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && value >= 0 && octets < 3) {
+                address = (address << 8) | value;
+                octets++;
+                value = -1;
+            } else {
+                return -1;
+            }
+        }
+        if (octets != 3 || value < 0) {
+            return -1;
+        }
+        return (address << 8) | value;
+    }
+
+    /**
+     * Parse an IPv6 literal into its high and low 64 bits, returns false if the literal is not valid
+     */
+    static boolean parseIPv6(String ip, long[] out) {
+        // Never pass anything to InetAddress which could be resolved as a hostname, the JDK only treats the input as
+        // an IPv6 literal (and never resolves it) when it contains a colon and starts with a hex digit, colon or bracket
+        if (ip.isEmpty() || ip.indexOf(':') < 0) {
+            return false;
+        }
+        char first = ip.charAt(0);
+        if (Character.digit(first, 16) < 0 && first != ':' && first != '[') {
+            return false;
+        }
+        byte[] bytes;
+        try {
+            bytes = InetAddress.getByName(ip).getAddress();
+        } catch (UnknownHostException | SecurityException e) {
+            return false;
+        }
+        if (bytes.length == 4) {
+            // IPv4 mapped address, the JDK hands these back as IPv4
+            out[0] = V4_MAPPED_HI;
+            out[1] = V4_MAPPED_LO_PREFIX | ((bytes[0] & 0xffL) << 24) | ((bytes[1] & 0xffL) << 16) | ((bytes[2] & 0xffL) << 8) | (bytes[3] & 0xffL);
+            return true;
+        }
+        long hi = 0;
+        long lo = 0;
+        for (int i = 0; i < 8; i++) {
+            hi = (hi << 8) | (bytes[i] & 0xffL);
+            lo = (lo << 8) | (bytes[i + 8] & 0xffL);
+        }
+        out[0] = hi;
+        out[1] = lo;
+        return true;
+    }
+
+    /**
+     * The embedded IPv4 address if this is an IPv4 mapped IPv6 address, otherwise -1
+     */
+    static long mappedIPv4(long hi, long lo) {
+        if (hi == V4_MAPPED_HI && (lo & 0xffffffff00000000L) == V4_MAPPED_LO_PREFIX) {
+            return lo & 0xffffffffL;
+        }
+        return -1;
+    }
+
+    /**
+     * Format an IPv4 address
+     */
+    static String formatIPv4(long address) {
+        return ((address >>> 24) & 0xff) + "." + ((address >>> 16) & 0xff) + "." + ((address >>> 8) & 0xff) + "." + (address & 0xff);
+    }
+
+    /**
+     * Format an IPv6 address, compressing the longest run of zero groups as recommended by RFC 5952
+     */
+    static String formatIPv6(long hi, long lo) {
+        int[] groups = new int[8];
+        for (int i = 0; i < 4; i++) {
+            groups[i] = (int) (hi >>> (48 - i * 16)) & 0xffff;
+            groups[i + 4] = (int) (lo >>> (48 - i * 16)) & 0xffff;
+        }
+        int bestStart = -1;
+        int bestLength = 1;
+        for (int i = 0; i < 8; i++) {
+            int length = 0;
+            while (i + length < 8 && groups[i + length] == 0) {
+                length++;
+            }
+            if (length > bestLength) {
+                bestStart = i;
+                bestLength = length;
+            }
+        }
+        StringBuilder formatted = new StringBuilder(39);
+        for (int i = 0; i < 8; i++) {
+            if (i == bestStart) {
+                formatted.append(i == 0 ? "::" : ":");
+                i += bestLength - 1;
+                continue;
+            }
+            formatted.append(Integer.toHexString(groups[i]));
+            if (i < 7) {
+                formatted.append(':');
+            }
+        }
+        return formatted.toString();
+    }
+}
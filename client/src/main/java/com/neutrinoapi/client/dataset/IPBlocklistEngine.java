@@ -0,0 +1,307 @@
+package com.neutrinoapi.client.dataset;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.neutrinoapi.client.APIErrorCode;
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local IP blocklist, answering IP Blocklist API queries in memory
+ *
+ * <p>The IPv4 and IPv6 blocklists are periodically downloaded using the IP Blocklist Download API (CSV format with
+ * CIDR notation) and compiled into a range index. Lookups never touch the network, an unlisted or unknown IP is
+ * reported as not listed.</p>
+ *
+ * <pre>{@code
+ * try (IPBlocklistEngine blocklist = new IPBlocklistEngine(neutrinoAPI, dataDirectory)) {
+ *     blocklist.start(Duration.ofHours(1));
+ *     if (blocklist.isListed(ip)) { ... }
+ * }
+ * }</pre>
+ */
+public class IPBlocklistEngine implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final int INVALID_IP = -2;
+    private static final int IPV6_LISTING = 1 << 30;
+
+    private final String category;
+    private final DatasetRefresher ipv4Refresher;
+    private final DatasetRefresher ipv6Refresher;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Snapshot snapshot = new Snapshot(IPBlocklistIndex.empty(false), IPBlocklistIndex.empty(true), null);
+    private volatile APIResponse lastError;
+
+    /**
+     * Create a blocklist engine for all categories
+     *
+     * @param client the API client used to download the blocklist
+     * @param dataDirectory where the downloaded blocklist files are kept
+     */
+    public IPBlocklistEngine(NeutrinoAPIClient client, Path dataDirectory) {
+        this(client, dataDirectory, "all");
+    }
+
+    /**
+     * Create a blocklist engine for a single category
+     *
+     * @param client the API client used to download the blocklist
+     * @param dataDirectory where the downloaded blocklist files are kept
+     * @param category the category of IP addresses to include, see the IP Blocklist Download API
+     */
+    public IPBlocklistEngine(NeutrinoAPIClient client, Path dataDirectory, String category) {
+        Objects.requireNonNull(client, "client");
+        Objects.requireNonNull(dataDirectory, "dataDirectory");
+        this.category = Objects.requireNonNull(category, "category");
+        this.ipv4Refresher = DatasetRefresher.ipBlocklist(client, downloadParams(false), dataDirectory.resolve("ip-blocklist-" + category + ".csv"));
+        this.ipv6Refresher = DatasetRefresher.ipBlocklist(client, downloadParams(true), dataDirectory.resolve("ip-blocklist-" + category + "-ip6.csv"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "neutrinoapi-ip-blocklist");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Refresh now, then keep refreshing in the background at the given interval
+     *
+     * @param refreshInterval how often the blocklist is downloaded
+     * @return true if the initial refresh succeeded
+     */
+    public boolean start(Duration refreshInterval) {
+        boolean refreshed = refresh();
+        long intervalMs = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return refreshed;
+    }
+
+    /**
+     * Download any changed blocklists and swap in the new index, the current index is kept if either download fails
+     *
+     * <p>Each blocklist is only downloaded when its checksum has changed, see {@link DatasetRefresher}.</p>
+     *
+     * @return true if the blocklist is up to date
+     */
+    public boolean refresh() {
+        DatasetRefresher.RefreshResult ipv4 = ipv4Refresher.refresh();
+        if (ipv4 == DatasetRefresher.RefreshResult.FAILED) {
+            lastError = ipv4Refresher.getLastError().orElse(null);
+            return false;
+        }
+        DatasetRefresher.RefreshResult ipv6 = ipv6Refresher.refresh();
+        if (ipv6 == DatasetRefresher.RefreshResult.FAILED) {
+            lastError = ipv6Refresher.getLastError().orElse(null);
+            return false;
+        }
+        try {
+            if (ipv4 == DatasetRefresher.RefreshResult.UPDATED || ipv6 == DatasetRefresher.RefreshResult.UPDATED || snapshot.loadedAt == null) {
+                load(ipv4Refresher.getTarget(), ipv6Refresher.getTarget());
+            }
+            lastError = null;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Never let a bad file kill the background refresh
+            lastError = APIResponse.of(APIErrorCode.FILE_IO_ERROR, e);
+            return false;
+        }
+    }
+
+    /**
+     * Load previously downloaded blocklist files, e.g. to start serving before the first refresh completes
+     *
+     * @param ipv4File the IPv4 blocklist CSV file
+     * @param ipv6File the IPv6 blocklist CSV file
+     */
+    public void load(Path ipv4File, Path ipv6File) throws IOException {
+        int defaultCategories = defaultCategories();
+        IPBlocklistIndex ipv4;
+        try (Reader reader = DatasetFiles.newReader(ipv4File)) {
+            ipv4 = IPBlocklistIndex.load(reader, false, defaultCategories);
+        }
+        IPBlocklistIndex ipv6;
+        try (Reader reader = DatasetFiles.newReader(ipv6File)) {
+            ipv6 = IPBlocklistIndex.load(reader, true, defaultCategories);
+        }
+        snapshot = new Snapshot(ipv4, ipv6, Instant.now());
+    }
+
+    /**
+     * Is this IP on the blocklist
+     *
+     * @param ip an IPv4 or IPv6 address
+     * @return true if listed, false if not listed or not a valid IP
+     */
+    public boolean isListed(String ip) {
+        return find(snapshot, ip) >= 0;
+    }
+
+    /**
+     * The blocklist categories this IP is listed on
+     *
+     * @param ip an IPv4 or IPv6 address
+     * @return the categories, empty if not listed or not a valid IP
+     */
+    public List<String> blocklists(String ip) {
+        Snapshot current = snapshot;
+        int listing = find(current, ip);
+        return listing < 0 ? List.of() : categoryNames(current.indexOf(listing).categories(listing & ~IPV6_LISTING));
+    }
+
+    /**
+     * Look up an IP, the response data has the same shape as the IP Blocklist API
+     *
+     * <p>Sensor details are not part of the downloaded blocklist so "sensors" is always empty.</p>
+     *
+     * @param ip an IPv4 or IPv6 address
+     * @return APIResponse
+     */
+    public APIResponse lookup(String ip) {
+        Snapshot current = snapshot;
+        String address = ip == null ? "" : ip.trim();
+        int listing = find(current, address);
+        if (listing == INVALID_IP) {
+            return APIResponse.of(APIResponse.NO_STATUS, APIResponse.NO_CONTENT_TYPE, APIErrorCode.INVALID_PARAMETER,
+                    String.format("%s, Name: ip, Type: string", APIErrorCode.getErrorMessage(APIErrorCode.INVALID_PARAMETER)));
+        }
+        boolean listed = listing >= 0;
+        IPBlocklistIndex index = listed ? current.indexOf(listing) : null;
+        listing &= ~IPV6_LISTING;
+        int mask = listed ? index.categories(listing) : 0;
+        JsonObject data = new JsonObject();
+        data.addProperty("ip", address);
+        data.addProperty("is-listed", listed);
+        for (int category = 0; category < IPBlocklistIndex.CATEGORIES.length; category++) {
+            data.addProperty("is-" + IPBlocklistIndex.CATEGORIES[category], (mask & (1 << category)) != 0);
+        }
+        JsonArray blocklists = new JsonArray();
+        categoryNames(mask).forEach(blocklists::add);
+        data.add("blocklists", blocklists);
+        data.addProperty("list-count", listed ? Math.max(index.listCount(listing), Integer.bitCount(mask)) : 0);
+        data.addProperty("last-seen", listed ? index.lastSeen(listing) : 0L);
+        data.addProperty("cidr", listed ? index.cidr(listing) : "");
+        data.add("sensors", new JsonArray());
+        return APIResponse.of(200, CONTENT_TYPE, data);
+    }
+
+    /**
+     * The IPv4 and IPv6 blocklist refreshers, for their download metrics
+     */
+    public List<DatasetRefresher> getRefreshers() {
+        return List.of(ipv4Refresher, ipv6Refresher);
+    }
+
+    /**
+     * When the blocklist was last loaded, empty if it has never been loaded
+     */
+    public Optional<Instant> getLastRefresh() {
+        return Optional.ofNullable(snapshot.loadedAt);
+    }
+
+    /**
+     * The error response from the most recent refresh, empty if it succeeded
+     */
+    public Optional<APIResponse> getLastError() {
+        return Optional.ofNullable(lastError);
+    }
+
+    /**
+     * Number of IPv4 and IPv6 listings currently loaded
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        return current.ipv4.size() + current.ipv6.size();
+    }
+
+    /**
+     * Stop the background refresh
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Find the listing for an IP, flagged with {@link #IPV6_LISTING} if it is in the IPv6 index
+     *
+     * @return the listing, {@link IPBlocklistIndex#NOT_LISTED} or {@link #INVALID_IP}
+     */
+    private static int find(Snapshot current, String ip) {
+        if (ip == null) {
+            return INVALID_IP;
+        }
+        long ipv4 = IPAddresses.parseIPv4(ip, 0, ip.length());
+        if (ipv4 >= 0) {
+            return current.ipv4.find(0, ipv4);
+        }
+        long[] ipv6 = new long[2];
+        if (!IPAddresses.parseIPv6(ip, ipv6)) {
+            return INVALID_IP;
+        }
+        long mapped = IPAddresses.mappedIPv4(ipv6[0], ipv6[1]);
+        if (mapped >= 0) {
+            return current.ipv4.find(0, mapped);
+        }
+        int listing = current.ipv6.find(ipv6[0], ipv6[1]);
+        return listing == IPBlocklistIndex.NOT_LISTED ? listing : listing | IPV6_LISTING;
+    }
+
+    private int defaultCategories() {
+        int category = List.of(IPBlocklistIndex.CATEGORIES).indexOf(this.category);
+        return category >= 0 ? 1 << category : 0;
+    }
+
+    private Map<String, String> downloadParams(boolean ipv6) {
+        Map<String, String> params = new HashMap<>();
+        params.put("format", "csv");
+        params.put("cidr", "true");
+        params.put("ip6", Boolean.toString(ipv6));
+        params.put("category", category);
+        return params;
+    }
+
+    private static List<String> categoryNames(int mask) {
+        List<String> names = new ArrayList<>(Integer.bitCount(mask));
+        for (int category = 0; category < IPBlocklistIndex.CATEGORIES.length; category++) {
+            if ((mask & (1 << category)) != 0) {
+                names.add(IPBlocklistIndex.CATEGORIES[category]);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * The IPv4 and IPv6 indexes, swapped in together
+     */
+    private static final class Snapshot {
+
+        final IPBlocklistIndex ipv4;
+        final IPBlocklistIndex ipv6;
+        final Instant loadedAt;
+
+        Snapshot(IPBlocklistIndex ipv4, IPBlocklistIndex ipv6, Instant loadedAt) {
+            this.ipv4 = ipv4;
+            this.ipv6 = ipv6;
+            this.loadedAt = loadedAt;
+        }
+
+        IPBlocklistIndex indexOf(int listing) {
+            return (listing & IPV6_LISTING) != 0 ? ipv6 : ipv4;
+        }
+    }
+}
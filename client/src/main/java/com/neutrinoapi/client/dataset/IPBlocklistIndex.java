@@ -0,0 +1,449 @@
+package com.neutrinoapi.client.dataset;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Immutable range index of the IP blocklist for one address family
+ *
+ * <p>Listings are compiled into sorted, disjoint address ranges held in primitive arrays. Nested CIDR listings are
+ * split so the most specific listing wins, so a lookup is a single binary search over the range starts.</p>
+ */
+final class IPBlocklistIndex {
+
+    /**
+     * The blocklist categories, in bitmask order
+     */
+    static final String[] CATEGORIES = {
+        "bot", "dshield", "exploit-bot", "hijacked", "malware", "proxy", "spam-bot", "spider", "spyware", "tor", "vpn"
+    };
+
+    static final int NOT_LISTED = -1;
+
+    private final boolean ipv6;
+
+    // Disjoint ranges sorted by start, hi arrays are null for IPv4
+    private final long[] startHi;
+    private final long[] startLo;
+    private final long[] endHi;
+    private final long[] endLo;
+    private final int[] rangeListing;
+
+    // Listings as loaded from the blocklist, networkHi is null for IPv4
+    private final long[] networkHi;
+    private final long[] networkLo;
+    private final byte[] prefixLength;
+    private final int[] categories;
+    private final long[] lastSeen;
+    private final int[] listCount;
+
+    private IPBlocklistIndex(boolean ipv6, long[] startHi, long[] startLo, long[] endHi, long[] endLo, int[] rangeListing,
+            long[] networkHi, long[] networkLo, byte[] prefixLength, int[] categories, long[] lastSeen, int[] listCount) {
+        this.ipv6 = ipv6;
+        this.startHi = startHi;
+        this.startLo = startLo;
+        this.endHi = endHi;
+        this.endLo = endLo;
+        this.rangeListing = rangeListing;
+        this.networkHi = networkHi;
+        this.networkLo = networkLo;
+        this.prefixLength = prefixLength;
+        this.categories = categories;
+        this.lastSeen = lastSeen;
+        this.listCount = listCount;
+    }
+
+    /**
+     * An index with no listings
+     */
+    static IPBlocklistIndex empty(boolean ipv6) {
+        long[] none = new long[0];
+        return new IPBlocklistIndex(ipv6, ipv6 ? none : null, none, ipv6 ? none : null, none, new int[0],
+                none, none, new byte[0], new int[0], none, new int[0]);
+    }
+
+    /**
+     * Find the most specific listing containing the address
+     *
+     * @return the listing, or {@link #NOT_LISTED}
+     */
+    int find(long hi, long lo) {
+        int low = 0;
+        int high = startLo.length - 1;
+        // Binary search for the last range starting at or before the address
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startHi == null ? 0 : startHi[mid], startLo[mid], hi, lo) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0 || compare(hi, lo, endHi == null ? 0 : endHi[high], endLo[high]) > 0) {
+            return NOT_LISTED;
+        }
+        return rangeListing[high];
+    }
+
+    /**
+     * Number of listings loaded
+     */
+    int size() {
+        return categories.length;
+    }
+
+    /**
+     * Bitmask of the listing categories, see {@link #CATEGORIES}
+     */
+    int categories(int listing) {
+        return categories[listing];
+    }
+
+    /**
+     * Unix time the listing was last seen, or 0 if unknown
+     */
+    long lastSeen(int listing) {
+        return lastSeen[listing];
+    }
+
+    /**
+     * Number of blocklists the listing is on, or 0 if unknown
+     */
+    int listCount(int listing) {
+        return listCount[listing];
+    }
+
+    /**
+     * The listing in CIDR notation
+     */
+    String cidr(int listing) {
+        String network = ipv6 ? IPAddresses.formatIPv6(networkHi[listing], networkLo[listing]) : IPAddresses.formatIPv4(networkLo[listing]);
+        return network + "/" + prefixLength[listing];
+    }
+
+    /**
+     * Load an IP blocklist CSV file as produced by the IP Blocklist Download API
+     *
+     * <p>If the file has a header row then the address is taken from the "ip" or "cidr" column, categories from
+     * any "is-*" columns and the "last-seen" and "list-count" columns are used if present. Without a header only
+     * the first column is used and every listing gets the default categories.</p>
+     *
+     * @param csv the CSV data
+     * @param ipv6 whether the file holds the IPv6 blocklist
+     * @param defaultCategories category bitmask given to listings without category columns
+     * @return the compiled index
+     */
+    static IPBlocklistIndex load(Reader csv, boolean ipv6, int defaultCategories) throws IOException {
+        Listings listings = new Listings(ipv6);
+        int addressColumn = 0;
+        int lastSeenColumn = -1;
+        int listCountColumn = -1;
+        int[] categoryColumns = new int[0];
+        long[] address = new long[2];
+        BufferedReader reader = csv instanceof BufferedReader ? (BufferedReader) csv : new BufferedReader(csv, 1 << 16);
+        boolean firstLine = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            String[] fields = line.split(",", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = unquote(fields[i]);
+            }
+            if (firstLine) {
+                firstLine = false;
+                if (parseAddress(fields[0], ipv6, address) < 0) {
+                    // Header row, map the columns we know about
+                    categoryColumns = new int[CATEGORIES.length];
+                    Arrays.fill(categoryColumns, -1);
+                    for (int i = 0; i < fields.length; i++) {
+                        String name = fields[i].toLowerCase();
+                        if (name.equals("ip") || name.equals("cidr")) {
+                            addressColumn = i;
+                        } else if (name.equals("last-seen")) {
+                            lastSeenColumn = i;
+                        } else if (name.equals("list-count")) {
+                            listCountColumn = i;
+                        } else if (name.startsWith("is-")) {
+                            int category = Arrays.asList(CATEGORIES).indexOf(name.substring(3));
+                            if (category >= 0) {
+                                categoryColumns[category] = i;
+                            }
+                        }
+                    }
+                    continue;
+                }
+            }
+            int prefix = addressColumn < fields.length ? parseAddress(fields[addressColumn], ipv6, address) : -1;
+            if (prefix < 0) {
+                continue;
+            }
+            int mask = 0;
+            boolean hasCategoryColumn = false;
+            for (int category = 0; category < categoryColumns.length; category++) {
+                int column = categoryColumns[category];
+                if (column >= 0 && column < fields.length) {
+                    hasCategoryColumn = true;
+                    if (isTrue(fields[column])) {
+                        mask |= 1 << category;
+                    }
+                }
+            }
+            listings.add(address[0], address[1], prefix, hasCategoryColumn ? mask : defaultCategories,
+                    parseLong(fields, lastSeenColumn), (int) parseLong(fields, listCountColumn));
+        }
+        return listings.compile();
+    }
+
+    /**
+     * Parse an address or CIDR into its network address
+     *
+     * @return the prefix length, or -1 if this is not an address of the expected family
+     */
+    private static int parseAddress(String value, boolean ipv6, long[] address) {
+        int slash = value.indexOf('/');
+        int width = ipv6 ? 128 : 32;
+        int prefix = width;
+        if (slash >= 0) {
+            try {
+                prefix = Integer.parseInt(value.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+            if (prefix < 0 || prefix > width) {
+                return -1;
+            }
+        }
+        String ip = slash >= 0 ? value.substring(0, slash) : value;
+        if (ipv6) {
+            if (!IPAddresses.parseIPv6(ip, address)) {
+                return -1;
+            }
+        } else {
+            long v4 = IPAddresses.parseIPv4(ip, 0, ip.length());
+            if (v4 < 0) {
+                return -1;
+            }
+            address[0] = 0;
+            address[1] = v4;
+        }
+        return prefix;
+    }
+
+    /**
+     * Growable listing table, compiled into the range index once loading is complete
+     */
+    private static final class Listings {
+
+        private final boolean ipv6;
+        private int size;
+        private long[] networkHi = new long[1024];
+        private long[] networkLo = new long[1024];
+        private long[] broadcastHi = new long[1024];
+        private long[] broadcastLo = new long[1024];
+        private byte[] prefixLength = new byte[1024];
+        private int[] categories = new int[1024];
+        private long[] lastSeen = new long[1024];
+        private int[] listCount = new int[1024];
+
+        Listings(boolean ipv6) {
+            this.ipv6 = ipv6;
+        }
+
+        void add(long hi, long lo, int prefix, int categoryMask, long seen, int count) {
+            if (size == categories.length) {
+                int capacity = size * 2;
+                networkHi = Arrays.copyOf(networkHi, capacity);
+                networkLo = Arrays.copyOf(networkLo, capacity);
+                broadcastHi = Arrays.copyOf(broadcastHi, capacity);
+                broadcastLo = Arrays.copyOf(broadcastLo, capacity);
+                prefixLength = Arrays.copyOf(prefixLength, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                lastSeen = Arrays.copyOf(lastSeen, capacity);
+                listCount = Arrays.copyOf(listCount, capacity);
+            }
+            long hostHi;
+            long hostLo;
+            if (ipv6) {
+                hostHi = prefix >= 64 ? 0 : -1L >>> prefix;
+                hostLo = prefix <= 64 ? -1L : prefix == 128 ? 0 : -1L >>> (prefix - 64);
+            } else {
+                hostHi = 0;
+                hostLo = prefix == 32 ? 0 : 0xffffffffL >>> prefix;
+            }
+            networkHi[size] = hi & ~hostHi;
+            networkLo[size] = lo & ~hostLo;
+            broadcastHi[size] = hi | hostHi;
+            broadcastLo[size] = lo | hostLo;
+            prefixLength[size] = (byte) prefix;
+            categories[size] = categoryMask;
+            lastSeen[size] = seen;
+            listCount[size] = count;
+            size++;
+        }
+
+        IPBlocklistIndex compile() {
+            // Order by network address, with enclosing networks before the networks they contain
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            sort(order, new int[size], 0, size);
+
+            Ranges ranges = new Ranges(size);
+            // Distinct networks nest at most one per prefix length deep
+            int[] stack = new int[129];
+            int depth = 0;
+            // The next address not yet covered by a range, null once the whole address space has been covered
+            long cursorHi = 0;
+            long cursorLo = 0;
+            boolean exhausted = false;
+            for (int i = 0; i < size; i++) {
+                int next = order[i];
+                if (i + 1 < size && compareListings(next, order[i + 1]) == 0) {
+                    // Listed again later in the file, the last listing of a network is the one kept
+                    continue;
+                }
+                // Close enclosing listings which end before this one starts
+                while (depth > 0 && compare(broadcastHi[stack[depth - 1]], broadcastLo[stack[depth - 1]], networkHi[next], networkLo[next]) < 0) {
+                    int closed = stack[--depth];
+                    if (!exhausted && compare(cursorHi, cursorLo, broadcastHi[closed], broadcastLo[closed]) <= 0) {
+                        ranges.add(cursorHi, cursorLo, broadcastHi[closed], broadcastLo[closed], closed);
+                        exhausted = broadcastHi[closed] == -1L && broadcastLo[closed] == -1L;
+                        cursorLo = broadcastLo[closed] + 1;
+                        cursorHi = cursorLo == 0 ? broadcastHi[closed] + 1 : broadcastHi[closed];
+                    }
+                }
+                if (exhausted) {
+                    break;
+                }
+                if (depth > 0 && compare(cursorHi, cursorLo, networkHi[next], networkLo[next]) < 0) {
+                    // The part of the enclosing listing before this nested one
+                    long endLo = networkLo[next] - 1;
+                    long endHi = networkLo[next] == 0 ? networkHi[next] - 1 : networkHi[next];
+                    ranges.add(cursorHi, cursorLo, endHi, endLo, stack[depth - 1]);
+                }
+                if (depth == 0 || compare(cursorHi, cursorLo, networkHi[next], networkLo[next]) < 0) {
+                    cursorHi = networkHi[next];
+                    cursorLo = networkLo[next];
+                }
+                stack[depth++] = next;
+            }
+            while (depth > 0 && !exhausted) {
+                int closed = stack[--depth];
+                if (compare(cursorHi, cursorLo, broadcastHi[closed], broadcastLo[closed]) <= 0) {
+                    ranges.add(cursorHi, cursorLo, broadcastHi[closed], broadcastLo[closed], closed);
+                    exhausted = broadcastHi[closed] == -1L && broadcastLo[closed] == -1L;
+                    cursorLo = broadcastLo[closed] + 1;
+                    cursorHi = cursorLo == 0 ? broadcastHi[closed] + 1 : broadcastHi[closed];
+                }
+            }
+            return new IPBlocklistIndex(ipv6,
+                    ipv6 ? Arrays.copyOf(ranges.startHi, ranges.size) : null, Arrays.copyOf(ranges.startLo, ranges.size),
+                    ipv6 ? Arrays.copyOf(ranges.endHi, ranges.size) : null, Arrays.copyOf(ranges.endLo, ranges.size),
+                    Arrays.copyOf(ranges.listing, ranges.size),
+                    ipv6 ? Arrays.copyOf(networkHi, size) : null, Arrays.copyOf(networkLo, size), Arrays.copyOf(prefixLength, size),
+                    Arrays.copyOf(categories, size), Arrays.copyOf(lastSeen, size), Arrays.copyOf(listCount, size));
+        }
+
+        /**
+         * Merge sort listing numbers in {@code [from, to)} by network address, then by prefix length
+         */
+        private void sort(int[] order, int[] buffer, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            sort(order, buffer, from, mid);
+            sort(order, buffer, mid, to);
+            if (compareListings(order[mid - 1], order[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(order, from, buffer, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < mid && compareListings(buffer[left], buffer[right]) <= 0)) {
+                    order[i] = buffer[left++];
+                } else {
+                    order[i] = buffer[right++];
+                }
+            }
+        }
+
+        private int compareListings(int a, int b) {
+            int c = compare(networkHi[a], networkLo[a], networkHi[b], networkLo[b]);
+            return c != 0 ? c : Integer.compare(prefixLength[a], prefixLength[b]);
+        }
+    }
+
+    /**
+     * Growable table of disjoint address ranges
+     */
+    private static final class Ranges {
+
+        private int size;
+        private long[] startHi;
+        private long[] startLo;
+        private long[] endHi;
+        private long[] endLo;
+        private int[] listing;
+
+        Ranges(int capacity) {
+            int initial = Math.max(16, capacity);
+            startHi = new long[initial];
+            startLo = new long[initial];
+            endHi = new long[initial];
+            endLo = new long[initial];
+            listing = new int[initial];
+        }
+
+        void add(long fromHi, long fromLo, long toHi, long toLo, int listingIndex) {
+            if (size == listing.length) {
+                int capacity = size * 2;
+                startHi = Arrays.copyOf(startHi, capacity);
+                startLo = Arrays.copyOf(startLo, capacity);
+                endHi = Arrays.copyOf(endHi, capacity);
+                endLo = Arrays.copyOf(endLo, capacity);
+                listing = Arrays.copyOf(listing, capacity);
+            }
+            startHi[size] = fromHi;
+            startLo[size] = fromLo;
+            endHi[size] = toHi;
+            endLo[size] = toLo;
+            listing[size] = listingIndex;
+            size++;
+        }
+    }
+
+    private static String unquote(String field) {
+        String value = field.trim();
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            value = value.substring(1, value.length() - 1).trim();
+        }
+        return value;
+    }
+
+    private static boolean isTrue(String value) {
+        return value.equals("1") || value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes");
+    }
+
+    private static long parseLong(String[] fields, int column) {
+        if (column < 0 || column >= fields.length || fields[column].isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(fields[column]);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int compare(long aHi, long aLo, long bHi, long bLo) {
+        int c = Long.compareUnsigned(aHi, bHi);
+        return c != 0 ? c : Long.compareUnsigned(aLo, bLo);
+    }
+}
@@ -0,0 +1,157 @@
+package com.neutrinoapi.client.dataset;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * MurmurHash3 of a file, to verify a download against the checksum of a dataset download API
+ *
+ * <p>The checksum is the 128-bit x64 variant with seed 0, formatted as 32 lowercase hexadecimal digits of h1 followed
+ * by h2 (the format of PHP's "murmur3f" hash). It covers the dataset content, not its transfer encoding, so a gzip
+ * compressed file is hashed while decompressing it.</p>
+ */
+final class MurmurHash3 {
+
+    /**
+     * Description of the checksum format, for error messages
+     */
+    static final String FORMAT = "32 hex digit MurmurHash3 x64 128-bit";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1;
+    private long h2;
+    private long length;
+
+    private MurmurHash3() {
+    }
+
+    /**
+     * The checksum of the file's content, decompressed if the file is gzip compressed
+     */
+    static String of(Path file) throws IOException {
+        try (InputStream in = decoded(file)) {
+            return of(in);
+        }
+    }
+
+    /**
+     * Does the file's content match the checksum
+     */
+    static boolean matches(Path file, String checksum) throws IOException {
+        return of(file).equalsIgnoreCase(checksum.trim());
+    }
+
+    /**
+     * Is the checksum in the format {@link #matches(Path, String)} checks
+     */
+    static boolean isValid(String checksum) {
+        return checksum.trim().matches("(?i)[0-9a-f]{32}");
+    }
+
+    static String of(InputStream in) throws IOException {
+        MurmurHash3 hash = new MurmurHash3();
+        byte[] bytes = new byte[BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        int read;
+        while ((read = in.read(bytes, buffer.position(), bytes.length - buffer.position())) != -1) {
+            buffer.position(buffer.position() + read);
+            buffer.flip();
+            hash.blocks(buffer);
+            // Keep the partial block for the next read
+            buffer.compact();
+        }
+        buffer.flip();
+        hash.tail(buffer);
+        return String.format("%016x%016x", hash.h1, hash.h2);
+    }
+
+    private static InputStream decoded(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            return magic == GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private void blocks(ByteBuffer buffer) {
+        while (buffer.remaining() >= 16) {
+            int start = buffer.position();
+            long k1 = buffer.getLong(start);
+            long k2 = buffer.getLong(start + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+
+            buffer.position(start + 16);
+            length += 16;
+        }
+    }
+
+    private void tail(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        int start = buffer.position();
+        length += remaining;
+
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = remaining - 1; i >= 8; i--) {
+            k2 = (k2 << 8) | (buffer.get(start + i) & 0xff);
+        }
+        for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+            k1 = (k1 << 8) | (buffer.get(start + i) & 0xff);
+        }
+        if (remaining > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(k1);
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+    }
+
+    private static long mixK1(long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,66 @@
+package com.neutrinoapi.client.metrics;
+
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.CallTimings;
+
+/**
+ * Receives telemetry from the API client, implement this to export it to a metrics system
+ *
+ * <p>Every method has an empty default, so an implementation only overrides what it records. Methods are called on
+ * the request threads and OkHttp's threads, so must be thread safe and fast. A client without metrics skips all of
+ * this, see {@link com.neutrinoapi.client.NeutrinoAPIClientBuilder#metrics(ClientMetrics)}.</p>
+ */
+public interface ClientMetrics {
+
+    /**
+     * An API request was started, after any cache lookup
+     *
+     * @param endpoint the API endpoint, e.g. "ip-info"
+     */
+    default void requestStarted(String endpoint) {
+    }
+
+    /**
+     * An API request completed, including any retries, hedging and failover
+     *
+     * @param endpoint the API endpoint, e.g. "ip-info"
+     * @param response the response, null if the request was cancelled or failed with an unexpected exception
+     * @param latencyNanos the time from start to completion
+     */
+    default void requestCompleted(String endpoint, APIResponse response, long latencyNanos) {
+    }
+
+    /**
+     * An HTTP call ended, with its phase timings, there may be several calls for one request when it is retried,
+     * hedged or failed over
+     *
+     * @param endpoint the API endpoint, e.g. "ip-info"
+     * @param timings the phase timings of the call
+     */
+    default void callCompleted(String endpoint, CallTimings timings) {
+    }
+
+    /**
+     * Bytes written to the network for one HTTP exchange, headers included
+     */
+    default void bytesSent(String endpoint, long bytes) {
+    }
+
+    /**
+     * Bytes read from the network for one HTTP exchange, headers included
+     */
+    default void bytesReceived(String endpoint, long bytes) {
+    }
+
+    /**
+     * A response was served from the response cache
+     */
+    default void cacheHit(String endpoint) {
+    }
+
+    /**
+     * A cacheable request was not in the response cache
+     */
+    default void cacheMiss(String endpoint) {
+    }
+}
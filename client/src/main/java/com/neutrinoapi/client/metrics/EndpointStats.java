@@ -0,0 +1,124 @@
+package com.neutrinoapi.client.metrics;
+
+import com.neutrinoapi.client.CallPhase;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Snapshot of the metrics of one API endpoint, see {@link InMemoryClientMetrics}
+ */
+public class EndpointStats {
+
+    private final String endpoint;
+    private final long requestCount;
+    private final Map<Integer, Long> errorCounts;
+    private final int inFlight;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long cacheHits;
+    private final long cacheMisses;
+    private final LatencyHistogram latency;
+    private final Map<CallPhase, LatencyHistogram> phaseLatency;
+
+    EndpointStats(String endpoint, long requestCount, Map<Integer, Long> errorCounts, int inFlight, long bytesSent,
+            long bytesReceived, long cacheHits, long cacheMisses, LatencyHistogram latency,
+            Map<CallPhase, LatencyHistogram> phaseLatency) {
+        this.endpoint = endpoint;
+        this.requestCount = requestCount;
+        this.errorCounts = errorCounts;
+        this.inFlight = inFlight;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.latency = latency;
+        this.phaseLatency = phaseLatency;
+    }
+
+    /**
+     * The API endpoint, e.g. "ip-info"
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Number of completed requests, not counting cache hits
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Number of completed requests by {@link com.neutrinoapi.client.APIErrorCode}, cancelled requests are counted
+     * under -1
+     */
+    public Map<Integer, Long> getErrorCounts() {
+        return errorCounts;
+    }
+
+    /**
+     * Number of requests in flight when the snapshot was taken
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Bytes written to the network, headers included
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Bytes read from the network, headers included
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Number of responses served from the response cache
+     */
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Number of cacheable requests not in the response cache
+     */
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * The latency at a percentile in milliseconds, e.g. 0.99 for p99
+     */
+    public double getLatencyMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    /**
+     * The live latency histogram, it keeps recording after the snapshot was taken
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * The live histogram of an HTTP call phase across every call, empty if the phase has not happened, e.g. there
+     * is no TLS histogram while every call reused a pooled connection
+     */
+    public Optional<LatencyHistogram> getPhaseLatency(CallPhase phase) {
+        return Optional.ofNullable(phaseLatency.get(phase));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EndpointStats{endpoint=%s, requestCount=%d, errorCounts=%s, inFlight=%d, bytesSent=%d, "
+                + "bytesReceived=%d, cacheHits=%d, cacheMisses=%d, p50=%.1fms, p99=%.1fms, max=%.1fms}",
+                endpoint, requestCount, errorCounts, inFlight, bytesSent, bytesReceived, cacheHits, cacheMisses,
+                getLatencyMillis(0.5), getLatencyMillis(0.99), latency.getMax() / 1e6);
+    }
+}
@@ -0,0 +1,155 @@
+package com.neutrinoapi.client.metrics;
+
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.CallPhase;
+import com.neutrinoapi.client.CallTimings;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dependency-free metrics kept in memory, with a latency histogram, error code counts, bytes, cache hits,
+ * in-flight requests and HTTP call phase histograms for each API endpoint
+ *
+ * <pre>{@code
+ * InMemoryClientMetrics metrics = new InMemoryClientMetrics();
+ * NeutrinoAPIClient neutrinoAPI = NeutrinoAPIClient.builder(userID, apiKey).metrics(metrics).build();
+ * metrics.getStats("ip-info").ifPresent(stats -> System.out.println(stats.getLatencyMillis(0.99)));
+ * }</pre>
+ */
+public class InMemoryClientMetrics implements ClientMetrics {
+
+    /**
+     * Error codes are counted in an array, larger codes share the last slot
+     */
+    private static final int MAX_ERROR_CODE = 127;
+    private static final int CANCELLED = -1;
+    private static final CallPhase[] PHASES = CallPhase.values();
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void requestStarted(String endpoint) {
+        endpoint(endpoint).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestCompleted(String endpoint, APIResponse response, long latencyNanos) {
+        Endpoint metrics = endpoint(endpoint);
+        metrics.inFlight.decrementAndGet();
+        metrics.latency.record(latencyNanos);
+        if (response == null) {
+            metrics.cancelled.increment();
+        } else {
+            metrics.errorCodes.incrementAndGet(Math.min(MAX_ERROR_CODE, Math.max(0, response.getErrorCode())));
+        }
+    }
+
+    @Override
+    public void callCompleted(String endpoint, CallTimings timings) {
+        Endpoint metrics = endpoint(endpoint);
+        for (CallPhase phase : PHASES) {
+            long nanos = timings.getNanos(phase);
+            if (nanos >= 0) {
+                metrics.phase(phase).record(nanos);
+            }
+        }
+    }
+
+    @Override
+    public void bytesSent(String endpoint, long bytes) {
+        endpoint(endpoint).bytesSent.add(bytes);
+    }
+
+    @Override
+    public void bytesReceived(String endpoint, long bytes) {
+        endpoint(endpoint).bytesReceived.add(bytes);
+    }
+
+    @Override
+    public void cacheHit(String endpoint) {
+        endpoint(endpoint).cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss(String endpoint) {
+        endpoint(endpoint).cacheMisses.increment();
+    }
+
+    /**
+     * Snapshot the metrics of an endpoint, empty if it has not been used
+     *
+     * @param endpoint the API endpoint, e.g. "ip-info"
+     */
+    public Optional<EndpointStats> getStats(String endpoint) {
+        Endpoint metrics = endpoints.get(endpoint);
+        return metrics == null ? Optional.empty() : Optional.of(metrics.snapshot(endpoint));
+    }
+
+    /**
+     * Snapshot the metrics of every endpoint used, by endpoint name
+     */
+    public Map<String, EndpointStats> getStats() {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        endpoints.forEach((endpoint, metrics) -> stats.put(endpoint, metrics.snapshot(endpoint)));
+        return stats;
+    }
+
+    private Endpoint endpoint(String endpoint) {
+        Endpoint metrics = endpoints.get(endpoint);
+        return metrics != null ? metrics : endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+    }
+
+    private static final class Endpoint {
+
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLongArray errorCodes = new AtomicLongArray(MAX_ERROR_CODE + 1);
+        final LongAdder cancelled = new LongAdder();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LongAdder cacheHits = new LongAdder();
+        final LongAdder cacheMisses = new LongAdder();
+        // Created on first use, as most calls have no DNS, connect or TLS phase
+        final AtomicReferenceArray<LatencyHistogram> phases = new AtomicReferenceArray<>(PHASES.length);
+
+        LatencyHistogram phase(CallPhase phase) {
+            LatencyHistogram histogram = phases.get(phase.ordinal());
+            if (histogram == null) {
+                phases.compareAndSet(phase.ordinal(), null, new LatencyHistogram());
+                histogram = phases.get(phase.ordinal());
+            }
+            return histogram;
+        }
+
+        EndpointStats snapshot(String endpoint) {
+            Map<Integer, Long> errorCounts = new TreeMap<>();
+            long requestCount = cancelled.sum();
+            if (requestCount > 0) {
+                errorCounts.put(CANCELLED, requestCount);
+            }
+            for (int errorCode = 0; errorCode <= MAX_ERROR_CODE; errorCode++) {
+                long count = errorCodes.get(errorCode);
+                if (count > 0) {
+                    errorCounts.put(errorCode, count);
+                    requestCount += count;
+                }
+            }
+            Map<CallPhase, LatencyHistogram> phaseLatency = new EnumMap<>(CallPhase.class);
+            for (CallPhase phase : PHASES) {
+                LatencyHistogram histogram = phases.get(phase.ordinal());
+                if (histogram != null) {
+                    phaseLatency.put(phase, histogram);
+                }
+            }
+            return new EndpointStats(endpoint, requestCount, errorCounts, inFlight.get(), bytesSent.sum(),
+                    bytesReceived.sum(), cacheHits.sum(), cacheMisses.sum(), latency, phaseLatency);
+        }
+    }
+}
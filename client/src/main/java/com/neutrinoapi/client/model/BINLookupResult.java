@@ -0,0 +1,267 @@
+package com.neutrinoapi.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Typed response of the BIN Lookup API
+ *
+ * <p>The "ip-" fields are only set when the "customer-ip" parameter was given.</p>
+ *
+ * @see <a href="https://www.neutrinoapi.com/api/bin-lookup">Documentation</a>
+ */
+public final class BINLookupResult {
+
+    private String binNumber = "";
+    private String cardBrand = "";
+    private String cardCategory = "";
+    private String cardType = "";
+    private String country = "";
+    private String countryCode = "";
+    private String countryCode3 = "";
+    private String currencyCode = "";
+    private boolean ipBlocklisted;
+    private List<String> ipBlocklists = List.of();
+    private String ipCity = "";
+    private String ipCountry = "";
+    private String ipCountryCode = "";
+    private String ipCountryCode3 = "";
+    private boolean ipMatchesBin;
+    private String ipRegion = "";
+    private boolean commercial;
+    private boolean prepaid;
+    private String issuer = "";
+    private String issuerPhone = "";
+    private String issuerWebsite = "";
+    private boolean valid;
+
+    BINLookupResult() {
+    }
+
+    /**
+     * The BIN number returned
+     */
+    public String getBinNumber() {
+        return binNumber;
+    }
+
+    /**
+     * The card brand (e.g. Visa or Mastercard)
+     */
+    public String getCardBrand() {
+        return cardBrand;
+    }
+
+    /**
+     * The card category, e.g. CLASSIC, BUSINESS, CORPORATE, PLATINUM, PREPAID
+     */
+    public String getCardCategory() {
+        return cardCategory;
+    }
+
+    /**
+     * The card type, will always be one of: DEBIT, CREDIT, CHARGE CARD
+     */
+    public String getCardType() {
+        return cardType;
+    }
+
+    /**
+     * The full country name of the issuer
+     */
+    public String getCountry() {
+        return country;
+    }
+
+    /**
+     * The ISO 2-letter country code of the issuer
+     */
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    /**
+     * The ISO 3-letter country code of the issuer
+     */
+    public String getCountryCode3() {
+        return countryCode3;
+    }
+
+    /**
+     * ISO 4217 currency code associated with the country of the issuer
+     */
+    public String getCurrencyCode() {
+        return currencyCode;
+    }
+
+    /**
+     * True if the customers IP is listed on one of our blocklists
+     */
+    public boolean isIpBlocklisted() {
+        return ipBlocklisted;
+    }
+
+    /**
+     * Which blocklists the customers IP is listed on, unmodifiable
+     */
+    public List<String> getIpBlocklists() {
+        return ipBlocklists;
+    }
+
+    /**
+     * The city of the customers IP (if detectable)
+     */
+    public String getIpCity() {
+        return ipCity;
+    }
+
+    /**
+     * The country of the customers IP
+     */
+    public String getIpCountry() {
+        return ipCountry;
+    }
+
+    /**
+     * The ISO 2-letter country code of the customers IP
+     */
+    public String getIpCountryCode() {
+        return ipCountryCode;
+    }
+
+    /**
+     * The ISO 3-letter country code of the customers IP
+     */
+    public String getIpCountryCode3() {
+        return ipCountryCode3;
+    }
+
+    /**
+     * True if the customers IP country matches the BIN country
+     */
+    public boolean isIpMatchesBin() {
+        return ipMatchesBin;
+    }
+
+    /**
+     * The region of the customers IP (if detectable)
+     */
+    public String getIpRegion() {
+        return ipRegion;
+    }
+
+    /**
+     * Is this a commercial/business use card
+     */
+    public boolean isCommercial() {
+        return commercial;
+    }
+
+    /**
+     * Is this a prepaid or prepaid reloadable card
+     */
+    public boolean isPrepaid() {
+        return prepaid;
+    }
+
+    /**
+     * The card issuer
+     */
+    public String getIssuer() {
+        return issuer;
+    }
+
+    /**
+     * The card issuers phone number
+     */
+    public String getIssuerPhone() {
+        return issuerPhone;
+    }
+
+    /**
+     * The card issuers website
+     */
+    public String getIssuerWebsite() {
+        return issuerWebsite;
+    }
+
+    /**
+     * Is this a valid BIN or IIN number
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Streaming adapter, reads the response without building a JSON tree
+     */
+    static final class Adapter extends TypeAdapter<BINLookupResult> {
+
+        @Override
+        public BINLookupResult read(JsonReader reader) throws IOException {
+            BINLookupResult result = new BINLookupResult();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "bin-number": result.binNumber = JsonValues.nextString(reader); break;
+                    case "card-brand": result.cardBrand = JsonValues.nextString(reader); break;
+                    case "card-category": result.cardCategory = JsonValues.nextString(reader); break;
+                    case "card-type": result.cardType = JsonValues.nextString(reader); break;
+                    case "country": result.country = JsonValues.nextString(reader); break;
+                    case "country-code": result.countryCode = JsonValues.nextString(reader); break;
+                    case "country-code3": result.countryCode3 = JsonValues.nextString(reader); break;
+                    case "currency-code": result.currencyCode = JsonValues.nextString(reader); break;
+                    case "ip-blocklisted": result.ipBlocklisted = JsonValues.nextBoolean(reader); break;
+                    case "ip-blocklists": result.ipBlocklists = JsonValues.nextStringList(reader); break;
+                    case "ip-city": result.ipCity = JsonValues.nextString(reader); break;
+                    case "ip-country": result.ipCountry = JsonValues.nextString(reader); break;
+                    case "ip-country-code": result.ipCountryCode = JsonValues.nextString(reader); break;
+                    case "ip-country-code3": result.ipCountryCode3 = JsonValues.nextString(reader); break;
+                    case "ip-matches-bin": result.ipMatchesBin = JsonValues.nextBoolean(reader); break;
+                    case "ip-region": result.ipRegion = JsonValues.nextString(reader); break;
+                    case "is-commercial": result.commercial = JsonValues.nextBoolean(reader); break;
+                    case "is-prepaid": result.prepaid = JsonValues.nextBoolean(reader); break;
+                    case "issuer": result.issuer = JsonValues.nextString(reader); break;
+                    case "issuer-phone": result.issuerPhone = JsonValues.nextString(reader); break;
+                    case "issuer-website": result.issuerWebsite = JsonValues.nextString(reader); break;
+                    case "valid": result.valid = JsonValues.nextBoolean(reader); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter writer, BINLookupResult result) throws IOException {
+            writer.beginObject();
+            writer.name("bin-number").value(result.binNumber);
+            writer.name("card-brand").value(result.cardBrand);
+            writer.name("card-category").value(result.cardCategory);
+            writer.name("card-type").value(result.cardType);
+            writer.name("country").value(result.country);
+            writer.name("country-code").value(result.countryCode);
+            writer.name("country-code3").value(result.countryCode3);
+            writer.name("currency-code").value(result.currencyCode);
+            writer.name("ip-blocklisted").value(result.ipBlocklisted);
+            writer.name("ip-blocklists");
+            JsonValues.writeStringList(writer, result.ipBlocklists);
+            writer.name("ip-city").value(result.ipCity);
+            writer.name("ip-country").value(result.ipCountry);
+            writer.name("ip-country-code").value(result.ipCountryCode);
+            writer.name("ip-country-code3").value(result.ipCountryCode3);
+            writer.name("ip-matches-bin").value(result.ipMatchesBin);
+            writer.name("ip-region").value(result.ipRegion);
+            writer.name("is-commercial").value(result.commercial);
+            writer.name("is-prepaid").value(result.prepaid);
+            writer.name("issuer").value(result.issuer);
+            writer.name("issuer-phone").value(result.issuerPhone);
+            writer.name("issuer-website").value(result.issuerWebsite);
+            writer.name("valid").value(result.valid);
+            writer.endObject();
+        }
+    }
+}
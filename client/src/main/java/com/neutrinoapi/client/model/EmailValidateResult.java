@@ -0,0 +1,165 @@
+package com.neutrinoapi.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Typed response of the Email Validate API
+ *
+ * @see <a href="https://www.neutrinoapi.com/api/email-validate">Documentation</a>
+ */
+public final class EmailValidateResult {
+
+    private String domain = "";
+    private boolean domainError;
+    private String domainStatus = "";
+    private String email = "";
+    private boolean disposable;
+    private boolean freemail;
+    private boolean personal;
+    private String mxIp = "";
+    private String provider = "";
+    private boolean syntaxError;
+    private boolean typosFixed;
+    private boolean valid;
+
+    EmailValidateResult() {
+    }
+
+    /**
+     * The domain name of this email address
+     */
+    public String getDomain() {
+        return domain;
+    }
+
+    /**
+     * True if this address has any domain name or DNS related errors, see {@link #getDomainStatus()} for the reason
+     */
+    public boolean isDomainError() {
+        return domainError;
+    }
+
+    /**
+     * The email domain status, e.g. "ok", "invalid", "no-service", "no-mail", "mx-invalid", "mx-bogon" or
+     * "resolv-error"
+     */
+    public String getDomainStatus() {
+        return domainStatus;
+    }
+
+    /**
+     * The complete email address. If you enabled the 'fix-typos' option then this will be the corrected address
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * True if this address is a disposable, temporary or darknet related email address
+     */
+    public boolean isDisposable() {
+        return disposable;
+    }
+
+    /**
+     * True if this address is from a free email provider
+     */
+    public boolean isFreemail() {
+        return freemail;
+    }
+
+    /**
+     * True if this address likely belongs to a person. False if this is a role based address, e.g. admin@, help@,
+     * office@, etc.
+     */
+    public boolean isPersonal() {
+        return personal;
+    }
+
+    /**
+     * The first resolved IP address of the primary MX server, may be empty if there are domain errors present
+     */
+    public String getMxIp() {
+        return mxIp;
+    }
+
+    /**
+     * The domain name of the email hosting provider
+     */
+    public String getProvider() {
+        return provider;
+    }
+
+    /**
+     * True if this address has any syntax errors or is not in RFC compliant formatting
+     */
+    public boolean isSyntaxError() {
+        return syntaxError;
+    }
+
+    /**
+     * True if any typos have been fixed. The 'fix-typos' option must be enabled for this to work
+     */
+    public boolean isTyposFixed() {
+        return typosFixed;
+    }
+
+    /**
+     * Is this a valid email address
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Streaming adapter, reads the response without building a JSON tree
+     */
+    static final class Adapter extends TypeAdapter<EmailValidateResult> {
+
+        @Override
+        public EmailValidateResult read(JsonReader reader) throws IOException {
+            EmailValidateResult result = new EmailValidateResult();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "domain": result.domain = JsonValues.nextString(reader); break;
+                    case "domain-error": result.domainError = JsonValues.nextBoolean(reader); break;
+                    case "domain-status": result.domainStatus = JsonValues.nextString(reader); break;
+                    case "email": result.email = JsonValues.nextString(reader); break;
+                    case "is-disposable": result.disposable = JsonValues.nextBoolean(reader); break;
+                    case "is-freemail": result.freemail = JsonValues.nextBoolean(reader); break;
+                    case "is-personal": result.personal = JsonValues.nextBoolean(reader); break;
+                    case "mx-ip": result.mxIp = JsonValues.nextString(reader); break;
+                    case "provider": result.provider = JsonValues.nextString(reader); break;
+                    case "syntax-error": result.syntaxError = JsonValues.nextBoolean(reader); break;
+                    case "typos-fixed": result.typosFixed = JsonValues.nextBoolean(reader); break;
+                    case "valid": result.valid = JsonValues.nextBoolean(reader); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter writer, EmailValidateResult result) throws IOException {
+            writer.beginObject();
+            writer.name("domain").value(result.domain);
+            writer.name("domain-error").value(result.domainError);
+            writer.name("domain-status").value(result.domainStatus);
+            writer.name("email").value(result.email);
+            writer.name("is-disposable").value(result.disposable);
+            writer.name("is-freemail").value(result.freemail);
+            writer.name("is-personal").value(result.personal);
+            writer.name("mx-ip").value(result.mxIp);
+            writer.name("provider").value(result.provider);
+            writer.name("syntax-error").value(result.syntaxError);
+            writer.name("typos-fixed").value(result.typosFixed);
+            writer.name("valid").value(result.valid);
+            writer.endObject();
+        }
+    }
+}
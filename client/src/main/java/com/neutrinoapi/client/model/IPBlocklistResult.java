@@ -0,0 +1,290 @@
+package com.neutrinoapi.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Typed response of the IP Blocklist API
+ *
+ * @see <a href="https://www.neutrinoapi.com/api/ip-blocklist">Documentation</a>
+ */
+public final class IPBlocklistResult {
+
+    // The "is-" category flags, one bit each
+    private static final String[] CATEGORIES = {
+        "bot", "dshield", "exploit-bot", "hijacked", "malware", "proxy", "spam-bot", "spider", "spyware", "tor", "vpn"
+    };
+
+    private String ip = "";
+    private boolean listed;
+    private int categories;
+    private List<String> blocklists = List.of();
+    private String cidr = "";
+    private long lastSeen;
+    private int listCount;
+    private List<Sensor> sensors = List.of();
+
+    IPBlocklistResult() {
+    }
+
+    /**
+     * The IP address
+     */
+    public String getIp() {
+        return ip;
+    }
+
+    /**
+     * Is this IP on a blocklist
+     */
+    public boolean isListed() {
+        return listed;
+    }
+
+    /**
+     * The blocklist categories this IP is listed on, unmodifiable
+     */
+    public List<String> getBlocklists() {
+        return blocklists;
+    }
+
+    /**
+     * The CIDR address for this listing (only set if the IP is listed)
+     */
+    public String getCidr() {
+        return cidr;
+    }
+
+    /**
+     * The unix time when this IP was last seen on any blocklist
+     */
+    public long getLastSeen() {
+        return lastSeen;
+    }
+
+    /**
+     * The number of blocklists the IP is listed on
+     */
+    public int getListCount() {
+        return listCount;
+    }
+
+    /**
+     * Which specific sensors detected the IP, unmodifiable
+     */
+    public List<Sensor> getSensors() {
+        return sensors;
+    }
+
+    /**
+     * IP is hosting a malicious bot or is part of a botnet
+     */
+    public boolean isBot() {
+        return isCategory(0);
+    }
+
+    /**
+     * IP has been flagged as a significant attack source by DShield (dshield.org)
+     */
+    public boolean isDshield() {
+        return isCategory(1);
+    }
+
+    /**
+     * IP is hosting an exploit finding bot or is running exploit scanning software
+     */
+    public boolean isExploitBot() {
+        return isCategory(2);
+    }
+
+    /**
+     * IP is part of a hijacked netblock or a netblock controlled by a criminal organization
+     */
+    public boolean isHijacked() {
+        return isCategory(3);
+    }
+
+    /**
+     * IP is involved in distributing or is running malware
+     */
+    public boolean isMalware() {
+        return isCategory(4);
+    }
+
+    /**
+     * IP has been detected as an anonymous web proxy or anonymous HTTP proxy
+     */
+    public boolean isProxy() {
+        return isCategory(5);
+    }
+
+    /**
+     * IP address is hosting a spam bot, comment spamming or any other spamming type software
+     */
+    public boolean isSpamBot() {
+        return isCategory(6);
+    }
+
+    /**
+     * IP is running a hostile web spider / web crawler
+     */
+    public boolean isSpider() {
+        return isCategory(7);
+    }
+
+    /**
+     * IP is involved in distributing or is running spyware
+     */
+    public boolean isSpyware() {
+        return isCategory(8);
+    }
+
+    /**
+     * IP is a Tor node or running a Tor related service
+     */
+    public boolean isTor() {
+        return isCategory(9);
+    }
+
+    /**
+     * IP belongs to a public VPN provider (only set if the 'vpn-lookup' option is enabled)
+     */
+    public boolean isVpn() {
+        return isCategory(10);
+    }
+
+    private boolean isCategory(int category) {
+        return (categories & (1 << category)) != 0;
+    }
+
+    /**
+     * A sensor which detected the IP
+     */
+    public static final class Sensor {
+
+        private String blocklist = "";
+        private String description = "";
+        private long id;
+
+        Sensor() {
+        }
+
+        /**
+         * The primary blocklist category this sensor belongs to
+         */
+        public String getBlocklist() {
+            return blocklist;
+        }
+
+        /**
+         * Details about the sensor source and what type of malicious activity was detected
+         */
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * The sensor ID, a permanent and unique ID for each sensor
+         */
+        public long getId() {
+            return id;
+        }
+    }
+
+    /**
+     * Streaming adapter, reads the response without building a JSON tree
+     */
+    static final class Adapter extends TypeAdapter<IPBlocklistResult> {
+
+        @Override
+        public IPBlocklistResult read(JsonReader reader) throws IOException {
+            IPBlocklistResult result = new IPBlocklistResult();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                switch (name) {
+                    case "ip": result.ip = JsonValues.nextString(reader); break;
+                    case "is-listed": result.listed = JsonValues.nextBoolean(reader); break;
+                    case "blocklists": result.blocklists = JsonValues.nextStringList(reader); break;
+                    case "cidr": result.cidr = JsonValues.nextString(reader); break;
+                    case "last-seen": result.lastSeen = JsonValues.nextLong(reader); break;
+                    case "list-count": result.listCount = (int) JsonValues.nextLong(reader); break;
+                    case "sensors": result.sensors = readSensors(reader); break;
+                    default:
+                        int category = name.startsWith("is-") ? categoryOf(name) : -1;
+                        if (category < 0) {
+                            reader.skipValue();
+                        } else if (JsonValues.nextBoolean(reader)) {
+                            result.categories |= 1 << category;
+                        }
+                }
+            }
+            reader.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter writer, IPBlocklistResult result) throws IOException {
+            writer.beginObject();
+            writer.name("ip").value(result.ip);
+            writer.name("is-listed").value(result.listed);
+            for (int category = 0; category < CATEGORIES.length; category++) {
+                writer.name("is-" + CATEGORIES[category]).value(result.isCategory(category));
+            }
+            writer.name("blocklists");
+            JsonValues.writeStringList(writer, result.blocklists);
+            writer.name("cidr").value(result.cidr);
+            writer.name("last-seen").value(result.lastSeen);
+            writer.name("list-count").value(result.listCount);
+            writer.name("sensors").beginArray();
+            for (Sensor sensor : result.sensors) {
+                writer.beginObject()
+                        .name("blocklist").value(sensor.blocklist)
+                        .name("description").value(sensor.description)
+                        .name("id").value(sensor.id)
+                        .endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+
+        private static int categoryOf(String name) {
+            for (int category = 0; category < CATEGORIES.length; category++) {
+                if (name.length() == 3 + CATEGORIES[category].length() && name.startsWith(CATEGORIES[category], 3)) {
+                    return category;
+                }
+            }
+            return -1;
+        }
+
+        private static List<Sensor> readSensors(JsonReader reader) throws IOException {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                return List.of();
+            }
+            List<Sensor> sensors = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Sensor sensor = new Sensor();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "blocklist": sensor.blocklist = JsonValues.nextString(reader); break;
+                        case "description": sensor.description = JsonValues.nextString(reader); break;
+                        case "id": sensor.id = JsonValues.nextLong(reader); break;
+                        default: reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                sensors.add(sensor);
+            }
+            reader.endArray();
+            return List.copyOf(sensors);
+        }
+    }
+}
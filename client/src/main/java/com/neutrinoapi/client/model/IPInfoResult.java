@@ -0,0 +1,321 @@
+package com.neutrinoapi.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Typed response of the IP Info API
+ *
+ * @see <a href="https://www.neutrinoapi.com/api/ip-info">Documentation</a>
+ */
+public final class IPInfoResult {
+
+    private String city = "";
+    private String continentCode = "";
+    private String country = "";
+    private String countryCode = "";
+    private String countryCode3 = "";
+    private String currencyCode = "";
+    private String hostDomain = "";
+    private String hostname = "";
+    private String ip = "";
+    private boolean bogon;
+    private boolean v4Mapped;
+    private boolean v6;
+    private String languageCode = "";
+    private double latitude;
+    private double longitude;
+    private String region = "";
+    private String regionCode = "";
+    private Timezone timezone = new Timezone();
+    private boolean valid;
+
+    IPInfoResult() {
+    }
+
+    /**
+     * Name of the city (if detectable)
+     */
+    public String getCity() {
+        return city;
+    }
+
+    /**
+     * ISO 2-letter continent code
+     */
+    public String getContinentCode() {
+        return continentCode;
+    }
+
+    /**
+     * Full country name
+     */
+    public String getCountry() {
+        return country;
+    }
+
+    /**
+     * ISO 2-letter country code
+     */
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    /**
+     * ISO 3-letter country code
+     */
+    public String getCountryCode3() {
+        return countryCode3;
+    }
+
+    /**
+     * ISO 4217 currency code associated with the country
+     */
+    public String getCurrencyCode() {
+        return currencyCode;
+    }
+
+    /**
+     * The IPs host domain (only set if reverse-lookup has been used)
+     */
+    public String getHostDomain() {
+        return hostDomain;
+    }
+
+    /**
+     * The IPs full hostname (only set if reverse-lookup has been used)
+     */
+    public String getHostname() {
+        return hostname;
+    }
+
+    /**
+     * The IPv4 or IPv6 address returned
+     */
+    public String getIp() {
+        return ip;
+    }
+
+    /**
+     * True if this is a bogon IP address such as a private network, local network or reserved address
+     */
+    public boolean isBogon() {
+        return bogon;
+    }
+
+    /**
+     * True if this is a IPv4 mapped IPv6 address
+     */
+    public boolean isV4Mapped() {
+        return v4Mapped;
+    }
+
+    /**
+     * True if this is a IPv6 address. False if IPv4
+     */
+    public boolean isV6() {
+        return v6;
+    }
+
+    /**
+     * The ISO 2-letter language code for the official language spoken in the country
+     */
+    public String getLanguageCode() {
+        return languageCode;
+    }
+
+    /**
+     * Location latitude
+     */
+    public double getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Location longitude
+     */
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Name of the region (if detectable)
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * ISO 3166-2 region code (if detectable)
+     */
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    /**
+     * The timezone of the location
+     */
+    public Timezone getTimezone() {
+        return timezone;
+    }
+
+    /**
+     * True if this is a valid IPv4 or IPv6 address
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Timezone details of an IP location
+     */
+    public static final class Timezone {
+
+        private String id = "";
+        private String name = "";
+        private String abbr = "";
+        private String date = "";
+        private String time = "";
+        private String offset = "";
+
+        Timezone() {
+        }
+
+        /**
+         * The time zone ID as per the IANA time zone database (tzdata), e.g. "Europe/London"
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * The full time zone name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The time zone abbreviation
+         */
+        public String getAbbr() {
+            return abbr;
+        }
+
+        /**
+         * The current date at the time zone (ISO 8601 format 'YYYY-MM-DD')
+         */
+        public String getDate() {
+            return date;
+        }
+
+        /**
+         * The current time at the time zone (ISO 8601 format 'hh:mm:ss.sss')
+         */
+        public String getTime() {
+            return time;
+        }
+
+        /**
+         * The UTC offset for the time zone (ISO 8601 format '±hh:mm')
+         */
+        public String getOffset() {
+            return offset;
+        }
+    }
+
+    /**
+     * Streaming adapter, reads the response without building a JSON tree
+     */
+    static final class Adapter extends TypeAdapter<IPInfoResult> {
+
+        @Override
+        public IPInfoResult read(JsonReader reader) throws IOException {
+            IPInfoResult result = new IPInfoResult();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "city": result.city = JsonValues.nextString(reader); break;
+                    case "continent-code": result.continentCode = JsonValues.nextString(reader); break;
+                    case "country": result.country = JsonValues.nextString(reader); break;
+                    case "country-code": result.countryCode = JsonValues.nextString(reader); break;
+                    case "country-code3": result.countryCode3 = JsonValues.nextString(reader); break;
+                    case "currency-code": result.currencyCode = JsonValues.nextString(reader); break;
+                    case "host-domain": result.hostDomain = JsonValues.nextString(reader); break;
+                    case "hostname": result.hostname = JsonValues.nextString(reader); break;
+                    case "ip": result.ip = JsonValues.nextString(reader); break;
+                    case "is-bogon": result.bogon = JsonValues.nextBoolean(reader); break;
+                    case "is-v4-mapped": result.v4Mapped = JsonValues.nextBoolean(reader); break;
+                    case "is-v6": result.v6 = JsonValues.nextBoolean(reader); break;
+                    case "language-code": result.languageCode = JsonValues.nextString(reader); break;
+                    case "latitude": result.latitude = JsonValues.nextDouble(reader); break;
+                    case "longitude": result.longitude = JsonValues.nextDouble(reader); break;
+                    case "region": result.region = JsonValues.nextString(reader); break;
+                    case "region-code": result.regionCode = JsonValues.nextString(reader); break;
+                    case "timezone": result.timezone = readTimezone(reader); break;
+                    case "valid": result.valid = JsonValues.nextBoolean(reader); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter writer, IPInfoResult result) throws IOException {
+            writer.beginObject();
+            writer.name("city").value(result.city);
+            writer.name("continent-code").value(result.continentCode);
+            writer.name("country").value(result.country);
+            writer.name("country-code").value(result.countryCode);
+            writer.name("country-code3").value(result.countryCode3);
+            writer.name("currency-code").value(result.currencyCode);
+            writer.name("host-domain").value(result.hostDomain);
+            writer.name("hostname").value(result.hostname);
+            writer.name("ip").value(result.ip);
+            writer.name("is-bogon").value(result.bogon);
+            writer.name("is-v4-mapped").value(result.v4Mapped);
+            writer.name("is-v6").value(result.v6);
+            writer.name("language-code").value(result.languageCode);
+            writer.name("latitude").value(result.latitude);
+            writer.name("longitude").value(result.longitude);
+            writer.name("region").value(result.region);
+            writer.name("region-code").value(result.regionCode);
+            writer.name("timezone").beginObject()
+                    .name("id").value(result.timezone.id)
+                    .name("name").value(result.timezone.name)
+                    .name("abbr").value(result.timezone.abbr)
+                    .name("date").value(result.timezone.date)
+                    .name("time").value(result.timezone.time)
+                    .name("offset").value(result.timezone.offset)
+                    .endObject();
+            writer.name("valid").value(result.valid);
+            writer.endObject();
+        }
+
+        private static Timezone readTimezone(JsonReader reader) throws IOException {
+            Timezone timezone = new Timezone();
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                return timezone;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id": timezone.id = JsonValues.nextString(reader); break;
+                    case "name": timezone.name = JsonValues.nextString(reader); break;
+                    case "abbr": timezone.abbr = JsonValues.nextString(reader); break;
+                    case "date": timezone.date = JsonValues.nextString(reader); break;
+                    case "time": timezone.time = JsonValues.nextString(reader); break;
+                    case "offset": timezone.offset = JsonValues.nextString(reader); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return timezone;
+        }
+    }
+}
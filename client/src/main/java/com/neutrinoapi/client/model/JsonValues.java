@@ -0,0 +1,80 @@
+package com.neutrinoapi.client.model;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lenient readers for JSON primitive values, shared by the response model adapters
+ *
+ * <p>Missing and null values read as empty strings, false or zero, the same defaults the API itself uses.</p>
+ */
+final class JsonValues {
+
+    private JsonValues() {
+    }
+
+    static String nextString(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return "";
+        } else if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(reader.nextBoolean());
+        }
+        return reader.nextString();
+    }
+
+    static boolean nextBoolean(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return false;
+        } else if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(reader.nextString());
+        }
+        return reader.nextBoolean();
+    }
+
+    static double nextDouble(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextDouble();
+    }
+
+    static long nextLong(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextLong();
+    }
+
+    static List<String> nextStringList(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return List.of();
+        }
+        List<String> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(nextString(reader));
+        }
+        reader.endArray();
+        // Unmodifiable, as cached typed results are shared between callers
+        return List.copyOf(values);
+    }
+
+    static void writeStringList(JsonWriter writer, List<String> values) throws IOException {
+        writer.beginArray();
+        for (String value : values) {
+            writer.value(value);
+        }
+        writer.endArray();
+    }
+}
@@ -0,0 +1,47 @@
+package com.neutrinoapi.client.model;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import java.util.Map;
+
+/**
+ * The streaming type adapters for the typed response models
+ */
+public final class ResponseModels {
+
+    private static final Map<Class<?>, TypeAdapter<?>> ADAPTERS = Map.of(
+            BINLookupResult.class, new BINLookupResult.Adapter(),
+            EmailValidateResult.class, new EmailValidateResult.Adapter(),
+            IPBlocklistResult.class, new IPBlocklistResult.Adapter(),
+            IPInfoResult.class, new IPInfoResult.Adapter());
+
+    private ResponseModels() {
+    }
+
+    /**
+     * Get the type adapter for a response model
+     *
+     * @param type the response model class
+     * @return TypeAdapter
+     * @throws IllegalArgumentException if the class is not a response model
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<T> adapter(Class<T> type) {
+        TypeAdapter<?> adapter = ADAPTERS.get(type);
+        if (adapter == null) {
+            throw new IllegalArgumentException("Not a response model: " + type.getName());
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /**
+     * Register the response model type adapters, e.g. to (de)serialize the models with your own Gson instance
+     *
+     * @param gsonBuilder the Gson builder
+     * @return the same Gson builder
+     */
+    public static GsonBuilder registerTypeAdapters(GsonBuilder gsonBuilder) {
+        ADAPTERS.forEach(gsonBuilder::registerTypeAdapter);
+        return gsonBuilder;
+    }
+}
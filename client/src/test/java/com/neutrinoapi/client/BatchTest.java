@@ -0,0 +1,138 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.neutrinoapi.client.cache.CacheStats;
+import com.neutrinoapi.client.cache.ResponseCache;
+import com.neutrinoapi.client.cache.TinyLFUCache;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BatchTest {
+
+    private static final Map<String, String> FIRST = Map.of("bin-number", "48334884");
+    private static final Map<String, String> SECOND = Map.of("bin-number", "51234567");
+    private static final Map<String, String> THIRD = Map.of("bin-number", "37144963");
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void identicalRequestsAreSentOnceAndShareTheResponse() {
+        server.enqueue(json("{\"valid\":true,\"bin-number\":\"48334884\"}"));
+        server.enqueue(json("{\"valid\":true,\"bin-number\":\"51234567\"}"));
+        try (NeutrinoAPIClient client = client(NeutrinoAPIClient.builder("user", "key"))) {
+            List<APIResponse> responses = client.binLookupBatch(List.of(FIRST, SECOND, FIRST, SECOND, FIRST));
+
+            assertEquals(5, responses.size());
+            assertEquals(2, server.getRequestCount());
+            assertEquals("48334884", responses.get(0).getData().get().get("bin-number").getAsString());
+            assertEquals("51234567", responses.get(1).getData().get().get("bin-number").getAsString());
+            assertSame(responses.get(0), responses.get(2));
+            assertSame(responses.get(0), responses.get(4));
+            assertSame(responses.get(1), responses.get(3));
+        }
+    }
+
+    @Test
+    void batchErrorFillsTheRemainingRequests() {
+        server.enqueue(new MockResponse()
+                .setResponseCode(403)
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"api-error\":10,\"api-error-msg\":\"ACCESS DENIED\"}"));
+        try (NeutrinoAPIClient client = client(NeutrinoAPIClient.builder("user", "key"))) {
+            List<APIResponse> responses = client.binLookupBatch(List.of(FIRST, SECOND, THIRD));
+
+            assertEquals(1, server.getRequestCount());
+            for (APIResponse response : responses) {
+                assertEquals(APIErrorCode.ACCESS_DENIED, response.getErrorCode());
+            }
+            assertSame(responses.get(0), responses.get(2));
+        }
+    }
+
+    @Test
+    void requestFailingBeforeItIsSentReleasesItsPermit() {
+        server.enqueue(json("{\"valid\":true,\"bin-number\":\"51234567\"}"));
+        server.enqueue(json("{\"valid\":true,\"bin-number\":\"37144963\"}"));
+        ResponseCache cache = new FailingCache("48334884");
+        try (NeutrinoAPIClient client = client(NeutrinoAPIClient.builder("user", "key").cache(cache))) {
+            List<APIResponse> responses = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> client.binLookupBatch(List.of(FIRST, SECOND, THIRD)));
+
+            assertEquals(APIErrorCode.NETWORK_IO_ERROR, responses.get(0).getErrorCode());
+            assertTrue(responses.get(0).getErrorCause().get() instanceof IllegalStateException);
+            assertTrue(responses.get(1).getData().isPresent());
+            assertTrue(responses.get(2).getData().isPresent());
+            assertEquals(2, server.getRequestCount());
+        }
+    }
+
+    private NeutrinoAPIClient client(NeutrinoAPIClientBuilder builder) {
+        return builder.baseURL(server.url("/").toString())
+                .batchConcurrency(1)
+                .build();
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(body);
+    }
+
+    /**
+     * A cache which throws on lookups of keys containing the given value, so building that request fails
+     */
+    private static final class FailingCache implements ResponseCache {
+
+        private final ResponseCache delegate = new TinyLFUCache(100);
+        private final String failOn;
+
+        FailingCache(String failOn) {
+            this.failOn = failOn;
+        }
+
+        @Override
+        public APIResponse get(String key) {
+            if (key.contains(failOn)) {
+                throw new IllegalStateException("cache unavailable");
+            }
+            return delegate.get(key);
+        }
+
+        @Override
+        public void put(String key, APIResponse response, Duration ttl) {
+            delegate.put(key, response, ttl);
+        }
+
+        @Override
+        public void invalidateAll() {
+            delegate.invalidateAll();
+        }
+
+        @Override
+        public CacheStats stats() {
+            return delegate.stats();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.neutrinoapi.client.cache.TinyLFUCache;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CallTimingsTest {
+
+    private static final Map<String, String> PARAMS = Map.of("ip", "192.0.2.1");
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void cacheHitHasNoTimings() {
+        NeutrinoAPIClient client = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .cache(new TinyLFUCache(16))
+                .build();
+        server.enqueue(json());
+
+        APIResponse sent = client.ipInfo(PARAMS);
+        APIResponse cached = client.ipInfo(PARAMS);
+
+        assertTrue(sent.getTimings().flatMap(timings -> timings.get(CallPhase.TOTAL)).isPresent());
+        assertTrue(cached.getData().isPresent());
+        assertTrue(cached.getTimings().isEmpty());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void coalescedResponseHasNoTimings() {
+        NeutrinoAPIClient client = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .coalescing(new RequestCoalescer())
+                .build();
+        server.enqueue(json().setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<APIResponse> sent = client.ipInfoAsync(PARAMS);
+        CompletableFuture<APIResponse> shared = client.ipInfoAsync(PARAMS);
+
+        assertTrue(sent.join().getTimings().isPresent());
+        assertTrue(shared.join().getData().isPresent());
+        assertTrue(shared.join().getTimings().isEmpty());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    private static MockResponse json() {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"valid\":true,\"ip\":\"192.0.2.1\"}");
+    }
+}
@@ -0,0 +1,124 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClientLifecycleTest {
+
+    private static final Map<String, String> PARAMS = Map.of("ip", "192.0.2.1");
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void closeShutsDownTheOwnedDispatcher() {
+        server.enqueue(json());
+        NeutrinoAPIClient client = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .build();
+        assertTrue(client.ipInfoAsync(PARAMS).join().getData().isPresent());
+
+        client.close();
+
+        APIResponse afterClose = client.ipInfoAsync(PARAMS).join();
+        assertEquals(APIErrorCode.NETWORK_IO_ERROR, afterClose.getErrorCode());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void closeLeavesAGivenExecutorRunning() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            server.enqueue(json());
+            NeutrinoAPIClient client = NeutrinoAPIClient.builder("user", "key")
+                    .baseURL(server.url("/").toString())
+                    .executor(executor)
+                    .build();
+
+            client.close();
+
+            assertFalse(executor.isShutdown());
+            assertTrue(client.ipInfoAsync(PARAMS).join().getData().isPresent());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void closingAConstructedClientLeavesTheSharedClientOpen() {
+        server.enqueue(json());
+        server.enqueue(json());
+        String baseURL = server.url("/").toString();
+
+        try (NeutrinoAPIClient client = new NeutrinoAPIClient("user", "key", baseURL)) {
+            assertTrue(client.ipInfoAsync(PARAMS).join().getData().isPresent());
+        }
+
+        try (NeutrinoAPIClient client = new NeutrinoAPIClient("user", "key", baseURL)) {
+            assertTrue(client.ipInfoAsync(PARAMS).join().getData().isPresent());
+        }
+    }
+
+    @Test
+    void clientsBuiltWithVirtualThreadsEachOwnTheirExecutor() {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads require Java 21 or later");
+        server.enqueue(json());
+        NeutrinoAPIClientBuilder builder = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .virtualThreads();
+        NeutrinoAPIClient first = builder.build();
+        try (NeutrinoAPIClient second = builder.build()) {
+            first.close();
+
+            assertTrue(second.ipInfoAsync(PARAMS).join().getData().isPresent());
+        }
+    }
+
+    @Test
+    void executorReplacesVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads require Java 21 or later");
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            NeutrinoAPIClientBuilder builder = NeutrinoAPIClient.builder("user", "key")
+                    .virtualThreads()
+                    .executor(executor);
+
+            assertFalse(builder.virtualThreads);
+            assertEquals(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1), builder.buildHttpClient().protocols());
+            assertSame(executor, builder.buildHttpClient().dispatcher().executorService());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static MockResponse json() {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"valid\":true,\"ip\":\"192.0.2.1\"}");
+    }
+}
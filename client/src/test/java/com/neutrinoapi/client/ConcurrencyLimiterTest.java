@@ -0,0 +1,178 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+
+    private static final APIResponse OK = APIResponse.of(200, "application/json", new JsonObject());
+    private static final APIResponse THROTTLED = APIResponse.of(429, "application/json", APIErrorCode.CONCURRENT);
+    private static final Map<String, String> PARAMS = Map.of("ip", "192.0.2.1");
+
+    @Test
+    void onlyTheFirstThrottledResponseOfAWindowHalvesTheLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(8, 1, 100, Duration.ZERO);
+        List<ConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+
+        limiter.release(permits.get(0), THROTTLED);
+        limiter.release(permits.get(1), THROTTLED);
+        assertEquals(4, limiter.getLimit());
+
+        // A permit granted after the decrease belongs to the next window
+        ConcurrencyLimiter.Permit next = limiter.acquire().join();
+        limiter.release(permits.get(2), THROTTLED);
+        limiter.release(next, THROTTLED);
+        assertEquals(2, limiter.getLimit());
+        assertEquals(4, limiter.getThrottledCount());
+    }
+
+    @Test
+    void limitGrowsByOneForEveryLimitsWorthOfSuccesses() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 100, Duration.ZERO);
+        List<ConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.release(permits.remove(0), OK);
+            permits.add(limiter.acquire().join());
+            assertEquals(i < 4 ? 4 : 5, limiter.getLimit());
+        }
+    }
+
+    @Test
+    void limitDoesNotGrowWhileMostlyUnused() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 100, Duration.ZERO);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.release(limiter.acquire().join(), OK);
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void queuedRequestExpiresAsConcurrent() throws IOException {
+        MockWebServer server = new MockWebServer();
+        server.enqueue(json().setHeadersDelay(1, TimeUnit.SECONDS));
+        server.start();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1, Duration.ofMillis(50));
+        try (NeutrinoAPIClient client = client(server, limiter)) {
+            CompletableFuture<APIResponse> first = client.ipInfoAsync(PARAMS);
+
+            APIResponse rejected = client.ipInfo(PARAMS);
+
+            assertEquals(APIErrorCode.CONCURRENT, rejected.getErrorCode());
+            assertEquals(1, limiter.getRejectedCount());
+            assertEquals(0, limiter.getQueued());
+            assertTrue(first.join().getData().isPresent());
+            assertEquals(1, server.getRequestCount());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    void permitsAreReleasedWhenRequestsFail() throws IOException {
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        server.start();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1, Duration.ZERO);
+        try (NeutrinoAPIClient client = client(server, limiter)) {
+            assertEquals(APIErrorCode.NETWORK_IO_ERROR, client.ipInfo(PARAMS).getErrorCode());
+            assertEquals(0, limiter.getInFlight());
+
+            assertEquals(APIErrorCode.NETWORK_IO_ERROR, client.ipInfoAsync(PARAMS).join().getErrorCode());
+            assertEquals(0, limiter.getInFlight());
+            assertEquals(0, limiter.getRejectedCount());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    void cancelledWaiterLeavesTheQueue() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1, Duration.ofSeconds(10));
+        ConcurrencyLimiter.Permit permit = limiter.acquire().join();
+        CompletableFuture<ConcurrencyLimiter.Permit> cancelled = limiter.acquire();
+        CompletableFuture<ConcurrencyLimiter.Permit> waiting = limiter.acquire();
+        assertEquals(2, limiter.getQueued());
+
+        cancelled.cancel(false);
+        assertEquals(1, limiter.getQueued());
+
+        limiter.release(permit, OK);
+        assertNotNull(waiting.getNow(null));
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void cancellingAQueuedRequestRemovesItsWaiter() throws IOException {
+        MockWebServer server = new MockWebServer();
+        server.enqueue(json().setHeadersDelay(500, TimeUnit.MILLISECONDS));
+        server.start();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1, Duration.ofSeconds(10));
+        try (NeutrinoAPIClient client = client(server, limiter)) {
+            CompletableFuture<APIResponse> first = client.ipInfoAsync(PARAMS);
+            CompletableFuture<APIResponse> queued = client.ipInfoAsync(PARAMS);
+            assertEquals(1, limiter.getQueued());
+
+            queued.cancel(false);
+
+            assertEquals(0, limiter.getQueued());
+            assertTrue(first.join().getData().isPresent());
+            assertEquals(0, limiter.getInFlight());
+            assertEquals(1, server.getRequestCount());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsImmediatelyWithoutAQueue() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1, Duration.ZERO);
+        ConcurrencyLimiter.Permit permit = limiter.acquire().join();
+
+        assertNull(limiter.acquire().join());
+        assertEquals(1, limiter.getRejectedCount());
+
+        limiter.release(permit, null);
+        assertNotNull(limiter.acquire().join());
+    }
+
+    private static List<ConcurrencyLimiter.Permit> acquire(ConcurrencyLimiter limiter, int count) {
+        List<ConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire().join());
+        }
+        return permits;
+    }
+
+    private static NeutrinoAPIClient client(MockWebServer server, ConcurrencyLimiter limiter) {
+        return NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .concurrencyLimiter(limiter)
+                .build();
+    }
+
+    private static MockResponse json() {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"valid\":true,\"ip\":\"192.0.2.1\"}");
+    }
+}
@@ -0,0 +1,76 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EndpointGroupTest {
+
+    private static final String A = "https://a.example.com/";
+    private static final String B = "https://b.example.com/";
+
+    @Test
+    void keepsTheGivenOrderUntilScored() {
+        EndpointGroup group = EndpointGroup.of(A, B);
+
+        assertEquals(List.of(A, B), group.route(10L));
+    }
+
+    @Test
+    void unscoredBaseURLDoesNotWin() {
+        EndpointGroup group = EndpointGroup.of(A, B);
+        group.recordSuccess(B, 10L, millis(80));
+
+        assertEquals(List.of(B, A), group.route(10L));
+    }
+
+    @Test
+    void fasterBaseURLWins() {
+        EndpointGroup group = EndpointGroup.of(A, B);
+        group.recordSuccess(A, 10L, millis(120));
+        group.recordSuccess(B, 10L, millis(40));
+
+        assertEquals(List.of(B, A), group.route(10L));
+    }
+
+    @Test
+    void latencyIsScoredPerTimeout() {
+        EndpointGroup group = EndpointGroup.of(A, B);
+        group.recordSuccess(A, 10L, millis(120));
+        group.recordSuccess(B, 10L, millis(40));
+        // A slow API served by B does not make B look slow for the fast APIs
+        group.recordSuccess(A, 300L, millis(1_000));
+        group.recordSuccess(B, 300L, millis(20_000));
+
+        assertEquals(List.of(B, A), group.route(10L));
+        assertEquals(List.of(A, B), group.route(300L));
+    }
+
+    @Test
+    void unmeasuredLatencyIsNotScored() {
+        EndpointGroup group = EndpointGroup.of(A, B);
+        group.recordSuccess(A, 30L, -1);
+        group.recordSuccess(B, 30L, millis(500));
+
+        assertEquals(List.of(B, A), group.route(30L));
+    }
+
+    @Test
+    void failedBaseURLSortsLast() {
+        EndpointGroup group = EndpointGroup.of(A, B);
+        group.recordSuccess(A, 10L, millis(40));
+        group.recordSuccess(B, 10L, millis(120));
+        group.recordFailure(A);
+
+        assertEquals(List.of(B, A), group.route(10L));
+        assertFalse(group.getHealth().get(0).isHealthy());
+        assertEquals(1, group.getHealth().get(0).getFailureCount());
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
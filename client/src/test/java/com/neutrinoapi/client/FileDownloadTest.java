@@ -0,0 +1,84 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileDownloadTest {
+
+    private static final int BUFFER_SIZE = 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void pooledBufferIsReusedForSmallAndLargeBodies() throws Exception {
+        Path small = dir.resolve("small.txt");
+        Path large = dir.resolve("large.bin");
+        byte[] data = data(10 * BUFFER_SIZE + 7);
+
+        // The small body of known length limits the pooled buffer, the next download must not inherit that limit
+        assertEquals(5, FileDownload.write(source("hello".getBytes(StandardCharsets.US_ASCII)), 5, small, 0,
+                BUFFER_SIZE, FsyncPolicy.NEVER));
+        assertEquals(data.length, FileDownload.write(source(data), -1, large, 0, BUFFER_SIZE, FsyncPolicy.NEVER));
+
+        assertEquals("hello", Files.readString(small));
+        assertArrayEquals(data, Files.readAllBytes(large));
+    }
+
+    @Test
+    void writesFromThePositionReplacingTheRest() throws Exception {
+        Path file = Files.writeString(dir.resolve("part.txt"), "abcdefgh");
+
+        FileDownload.write(source("XY".getBytes(StandardCharsets.US_ASCII)), 2, file, 3, BUFFER_SIZE, FsyncPolicy.NEVER);
+
+        assertEquals("abcXY", Files.readString(file));
+    }
+
+    @Test
+    void concurrentDownloadsBeyondThePoolAreWrittenIntact() throws Exception {
+        int downloads = Runtime.getRuntime().availableProcessors() * 4;
+        ExecutorService executor = Executors.newFixedThreadPool(downloads);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < downloads; i++) {
+                byte[] data = data(4 * BUFFER_SIZE + i);
+                Path file = dir.resolve("download-" + i);
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        FileDownload.write(source(data), -1, file, 0, BUFFER_SIZE, FsyncPolicy.NEVER);
+                        assertArrayEquals(data, Files.readAllBytes(file));
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Buffer source(byte[] data) {
+        return new Buffer().write(data);
+    }
+
+    private static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,158 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private static final Map<String, String> PARAMS = Map.of("ip", "192.0.2.1");
+    private static final String KEY = "ip-info?ip=9:192.0.2.1";
+
+    private MockWebServer server;
+    private RequestCoalescer coalescer;
+    private NeutrinoAPIClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        coalescer = new RequestCoalescer();
+        client = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .coalescing(coalescer)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void identicalAsyncRequestsShareOneCall() {
+        server.enqueue(delayedJson());
+
+        CompletableFuture<APIResponse> first = client.ipInfoAsync(PARAMS);
+        CompletableFuture<APIResponse> second = client.ipInfoAsync(PARAMS);
+
+        assertTrue(first.join().getData().isPresent());
+        assertTrue(second.join().getData().isPresent());
+        assertEquals(1, server.getRequestCount());
+        assertEquals(2, coalescer.getRequestCount());
+        assertEquals(1, coalescer.getCollapsedCount());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    void syncRequestJoinsAnAsyncCallInFlight() {
+        server.enqueue(delayedJson());
+
+        CompletableFuture<APIResponse> async = client.ipInfoAsync(PARAMS);
+        APIResponse sync = client.ipInfo(PARAMS);
+
+        assertTrue(sync.getData().isPresent());
+        assertEquals(async.join().getData().get(), sync.getData().get());
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    void cancellingOneSubscriberKeepsTheSharedCall() {
+        server.enqueue(delayedJson());
+
+        CompletableFuture<APIResponse> cancelled = client.ipInfoAsync(PARAMS);
+        CompletableFuture<APIResponse> remaining = client.ipInfoAsync(PARAMS);
+        cancelled.cancel(false);
+
+        assertTrue(remaining.join().getData().isPresent());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void cancellingEverySubscriberCancelsTheSharedCall() {
+        server.enqueue(delayedJson());
+        server.enqueue(json());
+
+        CompletableFuture<APIResponse> first = client.ipInfoAsync(PARAMS);
+        CompletableFuture<APIResponse> second = client.ipInfoAsync(PARAMS);
+        first.cancel(false);
+        second.cancel(false);
+
+        assertEquals(0, coalescer.getInFlight());
+        // The next identical request is sent again rather than joining the cancelled call
+        assertTrue(client.ipInfo(PARAMS).getData().isPresent());
+        assertEquals(3, coalescer.getRequestCount());
+        assertEquals(1, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    void lastCancellationCancelsTheSource() {
+        CompletableFuture<APIResponse> source = new CompletableFuture<>();
+
+        CompletableFuture<APIResponse> first = coalescer.executeAsync(KEY, () -> source);
+        CompletableFuture<APIResponse> second = coalescer.executeAsync(KEY, CompletableFuture::new);
+        first.cancel(false);
+        assertFalse(source.isCancelled());
+        assertEquals(1, coalescer.getInFlight());
+
+        second.cancel(false);
+        assertTrue(source.isCancelled());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    void exceptionsPropagateToEveryJoiner() throws Exception {
+        CompletableFuture<APIResponse> source = new CompletableFuture<>();
+        IllegalStateException failure = new IllegalStateException("failed");
+        AtomicInteger sent = new AtomicInteger();
+
+        CompletableFuture<APIResponse> first = coalescer.executeAsync(KEY, () -> {
+            sent.incrementAndGet();
+            return source;
+        });
+        CompletableFuture<APIResponse> second = coalescer.executeAsync(KEY, () -> {
+            sent.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        CompletableFuture<RuntimeException> syncJoiner = CompletableFuture.supplyAsync(() ->
+                assertThrows(IllegalStateException.class, () -> coalescer.execute(KEY, () -> {
+                    sent.incrementAndGet();
+                    return null;
+                })));
+        while (coalescer.getCollapsedCount() < 2) {
+            Thread.onSpinWait();
+        }
+        source.completeExceptionally(failure);
+
+        assertSame(failure, assertThrows(CompletionException.class, first::join).getCause());
+        assertSame(failure, assertThrows(CompletionException.class, second::join).getCause());
+        assertSame(failure, syncJoiner.get(10, TimeUnit.SECONDS));
+        assertEquals(1, sent.get());
+    }
+
+    private static MockResponse delayedJson() {
+        return json().setHeadersDelay(500, TimeUnit.MILLISECONDS);
+    }
+
+    private static MockResponse json() {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"valid\":true,\"ip\":\"192.0.2.1\"}");
+    }
+}
@@ -0,0 +1,157 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResumableDownloadTest {
+
+    private static final String ETAG = "\"dataset-v1\"";
+
+    @TempDir
+    Path dir;
+
+    private MockWebServer server;
+    private NeutrinoAPIClient client;
+    private Path output;
+    private Path part;
+    private Path validator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .downloadBufferSize(1024)
+                .build();
+        output = dir.resolve("blocklist.csv");
+        part = dir.resolve("blocklist.csv" + ResponseOutput.PART_SUFFIX);
+        validator = dir.resolve("blocklist.csv" + ResponseOutput.PART_SUFFIX + ResponseOutput.VALIDATOR_SUFFIX);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void resumesInterruptedDownloadWithIfRange() throws Exception {
+        byte[] data = dataset(8192);
+        server.enqueue(file(data).setHeader("ETag", ETAG).setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+
+        APIResponse failed = client.ipBlocklistDownloadResumable(Map.of(), output);
+
+        assertTrue(failed.getFile().isEmpty());
+        assertFalse(Files.exists(output));
+        long offset = Files.size(part);
+        assertTrue(offset > 0 && offset < data.length, "partial file size " + offset);
+        assertEquals(ETAG, Files.readString(validator));
+
+        server.enqueue(file(Arrays.copyOfRange(data, (int) offset, data.length))
+                .setResponseCode(206)
+                .setHeader("ETag", ETAG)
+                .setHeader("Content-Range", "bytes " + offset + "-" + (data.length - 1) + "/" + data.length));
+
+        APIResponse resumed = client.ipBlocklistDownloadResumable(Map.of(), output);
+
+        assertTrue(resumed.getFile().isPresent());
+        server.takeRequest();
+        RecordedRequest request = server.takeRequest();
+        assertEquals("GET", request.getMethod());
+        assertEquals("bytes=" + offset + "-", request.getHeader("Range"));
+        assertEquals(ETAG, request.getHeader("If-Range"));
+        assertArrayEquals(data, Files.readAllBytes(output));
+        assertFalse(Files.exists(part));
+        assertFalse(Files.exists(validator));
+    }
+
+    @Test
+    void discardsPartialFileWithoutValidator() throws Exception {
+        byte[] data = dataset(4096);
+        Files.write(part, "stale".getBytes(StandardCharsets.UTF_8));
+        server.enqueue(file(data));
+
+        assertTrue(client.binListDownloadResumable(Map.of(), output).getFile().isPresent());
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("GET", request.getMethod());
+        assertNull(request.getHeader("Range"));
+        assertNull(request.getHeader("If-Range"));
+        assertArrayEquals(data, Files.readAllBytes(output));
+    }
+
+    @Test
+    void startsOverWhenTheFileChanged() throws Exception {
+        byte[] data = dataset(4096);
+        Files.write(part, "stale".getBytes(StandardCharsets.UTF_8));
+        Files.writeString(validator, ETAG);
+        // If-Range did not match, the server sends the whole new file
+        server.enqueue(file(data).setHeader("ETag", "\"dataset-v2\""));
+
+        assertTrue(client.ipBlocklistDownloadResumable(Map.of(), output).getFile().isPresent());
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("bytes=5-", request.getHeader("Range"));
+        assertEquals(ETAG, request.getHeader("If-Range"));
+        assertArrayEquals(data, Files.readAllBytes(output));
+        assertFalse(Files.exists(validator));
+    }
+
+    @Test
+    void usesLastModifiedWhenETagIsWeak() throws Exception {
+        String lastModified = "Wed, 14 Oct 2026 08:00:00 GMT";
+        server.enqueue(file(dataset(8192))
+                .setHeader("ETag", "W/\"weak\"")
+                .setHeader("Last-Modified", lastModified)
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+
+        assertTrue(client.ipBlocklistDownloadResumable(Map.of(), output).getFile().isEmpty());
+
+        assertEquals(lastModified, Files.readString(validator));
+    }
+
+    @Test
+    void discardsPartialFileWhenRangeNotSatisfiable() throws Exception {
+        Files.write(part, "stale".getBytes(StandardCharsets.UTF_8));
+        Files.writeString(validator, ETAG);
+        server.enqueue(new MockResponse().setResponseCode(416).setHeader("Content-Type", "text/plain").setBody(""));
+
+        assertTrue(client.ipBlocklistDownloadResumable(Map.of(), output).getFile().isEmpty());
+
+        assertFalse(Files.exists(part));
+        assertFalse(Files.exists(validator));
+    }
+
+    private static MockResponse file(byte[] data) {
+        return new MockResponse()
+                .setHeader("Content-Type", "text/csv")
+                .setBody(new Buffer().write(data));
+    }
+
+    private static byte[] dataset(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('0' + i % 10);
+        }
+        return data;
+    }
+}
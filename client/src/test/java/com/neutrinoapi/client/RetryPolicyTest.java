@@ -0,0 +1,112 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+    private static final APIResponse READ_TIMEOUT = APIResponse.of(APIErrorCode.READ_TIMEOUT, new SocketTimeoutException());
+    private static final APIResponse NETWORK_IO_ERROR = APIResponse.of(APIErrorCode.NETWORK_IO_ERROR, new IOException());
+    private static final APIResponse CONNECT_TIMEOUT = APIResponse.of(APIErrorCode.CONNECT_TIMEOUT, new IOException());
+    private static final APIResponse CONCURRENT = APIResponse.of(429, "application/json", APIErrorCode.CONCURRENT);
+
+    @Test
+    void retriesTransientErrorsOfGetRequests() {
+        RetryPolicy policy = policy();
+
+        assertTrue(policy.shouldRetry("GET", "ip-info", READ_TIMEOUT, 0));
+        assertTrue(policy.shouldRetry("GET", "ip-info", NETWORK_IO_ERROR, 0));
+        assertTrue(policy.shouldRetry("GET", "ip-info", gatewayError(502), 0));
+        assertFalse(policy.shouldRetry("GET", "ip-info", gatewayError(404), 0));
+        assertFalse(policy.shouldRetry("GET", "ip-info", APIResponse.of(400, "application/json", APIErrorCode.INVALID_PARAMETER), 0));
+    }
+
+    @Test
+    void neverRetriesPostAfterTheRequestMayHaveBeenSent() {
+        RetryPolicy policy = policy();
+
+        assertFalse(policy.shouldRetry("POST", "html-render", READ_TIMEOUT, 0));
+        assertFalse(policy.shouldRetry("POST", "html-render", NETWORK_IO_ERROR, 0));
+        assertFalse(policy.shouldRetry("POST", "html-render", gatewayError(502), 0));
+        assertFalse(policy.shouldRetry("POST", "html-render", APIResponse.of(500, "application/json", APIErrorCode.INTERNAL_SERVER_ERROR), 0));
+    }
+
+    @Test
+    void retriesPostWhenTheRequestWasNotProcessed() {
+        RetryPolicy policy = policy();
+
+        assertTrue(policy.shouldRetry("POST", "html-render", CONNECT_TIMEOUT, 0));
+        assertTrue(policy.shouldRetry("POST", "html-render", CONCURRENT, 0));
+        assertTrue(policy.shouldRetry("POST", "html-render", gatewayError(429), 0));
+    }
+
+    @Test
+    void retriesPostOnlyForOptedInEndpoints() {
+        RetryPolicy policy = policy().allowPostRetries("html-render");
+
+        assertTrue(policy.shouldRetry("POST", "html-render", READ_TIMEOUT, 0));
+        assertFalse(policy.shouldRetry("POST", "image-resize", READ_TIMEOUT, 0));
+    }
+
+    @Test
+    void neverRetriesNonIdempotentEndpointsUnlessAllowed() {
+        RetryPolicy policy = policy();
+
+        assertFalse(policy.shouldRetry("GET", "sms-verify", CONNECT_TIMEOUT, 0));
+        assertTrue(policy.allowRetries("sms-verify").shouldRetry("GET", "sms-verify", CONNECT_TIMEOUT, 0));
+    }
+
+    @Test
+    void stopsAtMaxRetries() {
+        RetryPolicy policy = new RetryPolicy(2, Duration.ZERO, Duration.ZERO, 1.0);
+        policy.startRequest();
+
+        assertTrue(policy.shouldRetry("GET", "ip-info", READ_TIMEOUT, 1));
+        assertFalse(policy.shouldRetry("GET", "ip-info", READ_TIMEOUT, 2));
+    }
+
+    @Test
+    void budgetCapsRetries() {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ZERO, Duration.ZERO, 0.1);
+        int retried = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.startRequest();
+            if (policy.shouldRetry("GET", "ip-info", READ_TIMEOUT, 0)) {
+                retried++;
+            }
+        }
+
+        assertTrue(retried < 100, "retried " + retried);
+        assertEquals(retried, policy.getRetryCount());
+        assertEquals(100 - retried, policy.getBudgetExhaustedCount());
+    }
+
+    @Test
+    void backoffIsCappedAndNotRespondingWaitsFiveSeconds() {
+        RetryPolicy policy = new RetryPolicy(10, Duration.ofMillis(100), Duration.ofSeconds(1), 0.2);
+
+        for (int retries = 0; retries < 10; retries++) {
+            long cap = Math.min(Duration.ofMillis(100).toNanos() << retries, Duration.ofSeconds(1).toNanos());
+            long delay = policy.backoffNanos(READ_TIMEOUT, retries);
+            assertTrue(delay >= 0 && delay <= cap, "delay " + delay + " cap " + cap);
+        }
+        APIResponse notResponding = APIResponse.of(200, "application/json", APIErrorCode.NOT_RESPONDING);
+        assertTrue(policy.backoffNanos(notResponding, 0) >= Duration.ofSeconds(5).toNanos());
+    }
+
+    private static RetryPolicy policy() {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ZERO, Duration.ZERO, 1.0);
+        policy.startRequest();
+        return policy;
+    }
+
+    private static APIResponse gatewayError(int statusCode) {
+        return APIResponse.of(statusCode, "text/html", APIErrorCode.API_GATEWAY_ERROR, "Bad Gateway");
+    }
+}
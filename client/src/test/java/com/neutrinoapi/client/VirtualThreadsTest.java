@@ -0,0 +1,82 @@
+package com.neutrinoapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs on Java 21 and later with -Djdk.tracePinnedThreads=full (see the java21 profile), which prints the stack of
+ * every virtual thread that blocks while pinned to its carrier thread
+ */
+class VirtualThreadsTest {
+
+    private static final Map<String, String> PARAMS = Map.of("ip", "192.0.2.1");
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads require Java 21 or later");
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (server != null) {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    void syncAndAsyncCallsDoNotPinVirtualThreads() throws Exception {
+        // Delay the responses so the calls block reading them
+        server.enqueue(json().setHeadersDelay(100, TimeUnit.MILLISECONDS));
+        server.enqueue(json().setHeadersDelay(100, TimeUnit.MILLISECONDS));
+        PrintStream out = System.out;
+        ByteArrayOutputStream trace = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(trace, true, StandardCharsets.UTF_8));
+        try (NeutrinoAPIClient client = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .virtualThreads()
+                .build()) {
+            ExecutorService executor = VirtualThreads.newExecutor();
+            try {
+                // A sync call runs on the calling thread, here a virtual thread
+                APIResponse sync = executor.submit(() -> client.ipInfo(PARAMS)).get();
+                APIResponse async = client.ipInfoAsync(PARAMS).get();
+
+                assertTrue(sync.getData().isPresent());
+                assertTrue(async.getData().isPresent());
+            } finally {
+                executor.shutdown();
+            }
+        } finally {
+            System.setOut(out);
+        }
+
+        assertEquals(2, server.getRequestCount());
+        String pinned = trace.toString(StandardCharsets.UTF_8);
+        assertFalse(pinned.contains("<== monitors"), pinned);
+    }
+
+    private static MockResponse json() {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"valid\":true,\"ip\":\"192.0.2.1\"}");
+    }
+}
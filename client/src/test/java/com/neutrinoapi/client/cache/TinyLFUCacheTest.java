@@ -0,0 +1,142 @@
+package com.neutrinoapi.client.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.neutrinoapi.client.APIResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+class TinyLFUCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Test
+    void returnsCachedResponse() {
+        TinyLFUCache cache = new TinyLFUCache(100);
+        cache.put("ip-info?ip=1", response("1.1.1.1"), TTL);
+
+        APIResponse hit = cache.get("ip-info?ip=1");
+
+        assertNotNull(hit);
+        assertEquals("1.1.1.1", hit.getData().orElseThrow().get("ip").getAsString());
+        assertNull(cache.get("ip-info?ip=2"));
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void hitsAreDefensiveCopies() {
+        TinyLFUCache cache = new TinyLFUCache(100);
+        APIResponse original = response("1.1.1.1");
+        cache.put("key", original, TTL);
+        original.getData().orElseThrow().addProperty("ip", "changed by the caller which sent the request");
+
+        APIResponse first = cache.get("key");
+        first.getData().orElseThrow().addProperty("ip", "changed by a caller");
+        APIResponse second = cache.get("key");
+
+        assertNotSame(first.getData().orElseThrow(), second.getData().orElseThrow());
+        assertEquals("1.1.1.1", second.getData().orElseThrow().get("ip").getAsString());
+    }
+
+    @Test
+    void expiredEntriesAreMisses() {
+        TinyLFUCache cache = new TinyLFUCache(100);
+        cache.put("key", response("1.1.1.1"), Duration.ZERO);
+
+        assertNull(cache.get("key"));
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    void keepsPopularEntriesThroughAScan() {
+        TinyLFUCache cache = new TinyLFUCache(100);
+        for (int i = 0; i < 10; i++) {
+            cache.put("hot" + i, response("hot" + i), TTL);
+        }
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(cache.get("hot" + i));
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            cache.put("scan" + i, response("scan" + i), TTL);
+        }
+
+        int hot = 0;
+        for (int i = 0; i < 10; i++) {
+            if (cache.get("hot" + i) != null) {
+                hot++;
+            }
+        }
+        assertEquals(10, hot);
+        assertEquals(100, cache.stats().getSize());
+        assertTrue(cache.stats().getEvictionCount() >= 910);
+    }
+
+    @Test
+    void invalidateAllRemovesEverything() {
+        TinyLFUCache cache = new TinyLFUCache(100);
+        for (int i = 0; i < 50; i++) {
+            cache.put("key" + i, response("key" + i), TTL);
+            cache.get("key" + i);
+        }
+
+        cache.invalidateAll();
+
+        assertNull(cache.get("key0"));
+        assertEquals(0, cache.stats().getSize());
+        cache.put("key0", response("key0"), TTL);
+        assertNotNull(cache.get("key0"));
+    }
+
+    @Test
+    void staysBoundedUnderConcurrentReadsAndWrites() throws Exception {
+        TinyLFUCache cache = new TinyLFUCache(256);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50_000; i++) {
+                        // Skewed keys so some are hot
+                        String key = "key" + (int) Math.abs(random.nextGaussian() * 200);
+                        if (cache.get(key) == null) {
+                            cache.put(key, response(key), TTL);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        CacheStats stats = cache.stats();
+        assertTrue(stats.getSize() <= 256, "size " + stats.getSize());
+        assertEquals(400_000, stats.getHitCount() + stats.getMissCount());
+        assertTrue(stats.getHitRate() > 0.5, "hit rate " + stats.getHitRate());
+    }
+
+    private static APIResponse response(String ip) {
+        JsonObject data = new JsonObject();
+        data.addProperty("ip", ip);
+        return APIResponse.of(200, "application/json", data);
+    }
+}
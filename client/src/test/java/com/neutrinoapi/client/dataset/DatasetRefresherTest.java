@@ -0,0 +1,93 @@
+package com.neutrinoapi.client.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.neutrinoapi.client.APIErrorCode;
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DatasetRefresherTest {
+
+    private static final String CSV = "The quick brown fox jumps over the lazy dog";
+    private static final String CSV_CHECKSUM = "e34bbc7bbc071b6c7a433ca9c49a9347";
+
+    @TempDir
+    Path dir;
+
+    private MockWebServer server;
+    private NeutrinoAPIClient client;
+    private DatasetRefresher refresher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = NeutrinoAPIClient.builder("user", "key")
+                .baseURL(server.url("/").toString())
+                .build();
+        refresher = DatasetRefresher.ipBlocklist(client, Map.of(), dir.resolve("blocklist.csv"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void downloadsVerifiedDatasetOnce() {
+        server.enqueue(checksum(CSV_CHECKSUM));
+        server.enqueue(file(CSV));
+        server.enqueue(checksum(CSV_CHECKSUM));
+
+        assertEquals(DatasetRefresher.RefreshResult.UPDATED, refresher.refresh());
+        assertEquals(DatasetRefresher.RefreshResult.UNCHANGED, refresher.refresh());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void failsWhenTheDownloadDoesNotMatchTheChecksum() {
+        server.enqueue(checksum("00000000000000000000000000000001"));
+        server.enqueue(file(CSV));
+
+        assertEquals(DatasetRefresher.RefreshResult.FAILED, refresher.refresh());
+        assertEquals(APIErrorCode.FILE_IO_ERROR, refresher.getLastError().get().getErrorCode());
+        assertTrue(refresher.getLastError().get().getErrorMessage().startsWith("CHECKSUM MISMATCH"));
+        assertFalse(Files.exists(refresher.getTarget()));
+    }
+
+    @Test
+    void failsWithoutDownloadingWhenTheChecksumCannotBeVerified() {
+        server.enqueue(checksum("mock-dataset-1"));
+
+        assertEquals(DatasetRefresher.RefreshResult.FAILED, refresher.refresh());
+        assertTrue(refresher.getLastError().get().getErrorMessage().startsWith("UNVERIFIABLE CHECKSUM"));
+        assertEquals(1, server.getRequestCount());
+        assertFalse(Files.exists(refresher.getTarget()));
+    }
+
+    private static MockResponse checksum(String value) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"checksum\":\"" + value + "\"}");
+    }
+
+    private static MockResponse file(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "text/csv")
+                .setBody(new Buffer().writeString(body, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,104 @@
+package com.neutrinoapi.client.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class IPBlocklistIndexTest {
+
+    private static final String HEADER = "cidr,is-bot,is-tor,is-vpn,last-seen,list-count\n";
+
+    @Test
+    void findsIPv6ListingsInBothHalvesOfTheAddressSpace() throws IOException {
+        IPBlocklistIndex index = IPBlocklistIndex.load(new StringReader(HEADER
+                + "fc00::/7,1,0,0,1700000000,3\n"
+                + "2001:db8::/32,0,1,0,1700000001,1\n"
+                + "2a00::/16,0,0,1,1700000002,2\n"), true, 0);
+
+        assertEquals(3, index.size());
+        assertEquals("2001:db8::/32", index.cidr(findIPv6(index, "2001:db8::1")));
+        assertEquals("2a00::/16", index.cidr(findIPv6(index, "2a00::5")));
+        assertEquals("fc00::/7", index.cidr(findIPv6(index, "fd12:3456::1")));
+        assertEquals(IPBlocklistIndex.NOT_LISTED, findIPv6(index, "2001:db9::1"));
+        assertEquals(IPBlocklistIndex.NOT_LISTED, findIPv6(index, "fe80::1"));
+        assertEquals(IPBlocklistIndex.NOT_LISTED, findIPv6(index, "::1"));
+    }
+
+    @Test
+    void mostSpecificIPv4ListingWins() throws IOException {
+        IPBlocklistIndex index = IPBlocklistIndex.load(new StringReader(HEADER
+                + "10.1.2.0/24,0,1,0,0,0\n"
+                + "10.0.0.0/8,1,0,0,0,0\n"
+                + "10.1.0.0/16,0,0,1,0,0\n"
+                + "10.1.2.3,1,1,1,0,0\n"
+                + "192.168.0.0/16,1,0,0,0,0\n"), false, 0);
+
+        assertEquals("10.0.0.0/8", index.cidr(findIPv4(index, "10.0.0.1")));
+        assertEquals("10.1.0.0/16", index.cidr(findIPv4(index, "10.1.0.1")));
+        assertEquals("10.1.2.0/24", index.cidr(findIPv4(index, "10.1.2.4")));
+        assertEquals("10.1.2.3/32", index.cidr(findIPv4(index, "10.1.2.3")));
+        assertEquals("10.1.0.0/16", index.cidr(findIPv4(index, "10.1.3.0")));
+        assertEquals("10.0.0.0/8", index.cidr(findIPv4(index, "10.255.255.255")));
+        assertEquals("192.168.0.0/16", index.cidr(findIPv4(index, "192.168.1.1")));
+        assertEquals(IPBlocklistIndex.NOT_LISTED, findIPv4(index, "11.0.0.0"));
+        assertEquals(IPBlocklistIndex.NOT_LISTED, findIPv4(index, "9.255.255.255"));
+    }
+
+    @Test
+    void readsCategoriesAndMetadata() throws IOException {
+        IPBlocklistIndex index = IPBlocklistIndex.load(new StringReader(HEADER
+                + "198.51.100.0/24,1,0,1,1700000000,4\n"), false, 0);
+
+        int listing = findIPv4(index, "198.51.100.7");
+        int bot = 1 << Arrays.asList(IPBlocklistIndex.CATEGORIES).indexOf("bot");
+        int vpn = 1 << Arrays.asList(IPBlocklistIndex.CATEGORIES).indexOf("vpn");
+        assertEquals(bot | vpn, index.categories(listing));
+        assertEquals(1700000000L, index.lastSeen(listing));
+        assertEquals(4, index.listCount(listing));
+    }
+
+    @Test
+    void usesDefaultCategoriesWithoutHeader() throws IOException {
+        IPBlocklistIndex index = IPBlocklistIndex.load(new StringReader("203.0.113.9\n203.0.113.0/30\n"), false, 5);
+
+        assertEquals(2, index.size());
+        assertEquals(5, index.categories(findIPv4(index, "203.0.113.9")));
+        assertEquals("203.0.113.0/30", index.cidr(findIPv4(index, "203.0.113.2")));
+        assertEquals(IPBlocklistIndex.NOT_LISTED, findIPv4(index, "203.0.113.8"));
+    }
+
+    @Test
+    void keepsTheLastOfRepeatedListings() throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 1; i <= 300; i++) {
+            csv.append("10.0.0.0/8,0,0,0,0,").append(i).append('\n');
+            csv.append("2001:db8::/32,0,0,0,0,").append(i).append('\n');
+        }
+        csv.append("10.1.0.0/16,1,0,0,0,1\n");
+
+        IPBlocklistIndex ipv4 = IPBlocklistIndex.load(new StringReader(csv.toString()), false, 0);
+        IPBlocklistIndex ipv6 = IPBlocklistIndex.load(new StringReader(csv.toString()), true, 0);
+
+        assertEquals(300, ipv4.listCount(findIPv4(ipv4, "10.0.0.1")));
+        assertEquals("10.1.0.0/16", ipv4.cidr(findIPv4(ipv4, "10.1.2.3")));
+        assertEquals(300, ipv4.listCount(findIPv4(ipv4, "10.2.0.0")));
+        assertEquals(300, ipv6.listCount(findIPv6(ipv6, "2001:db8::1")));
+    }
+
+    private static int findIPv4(IPBlocklistIndex index, String ip) {
+        long address = IPAddresses.parseIPv4(ip, 0, ip.length());
+        assertTrue(address >= 0, ip);
+        return index.find(0, address);
+    }
+
+    private static int findIPv6(IPBlocklistIndex index, String ip) {
+        long[] address = new long[2];
+        assertTrue(IPAddresses.parseIPv6(ip, address), ip);
+        return index.find(address[0], address[1]);
+    }
+}
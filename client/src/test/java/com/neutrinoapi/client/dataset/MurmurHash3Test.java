@@ -0,0 +1,61 @@
+package com.neutrinoapi.client.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MurmurHash3Test {
+
+    private static final String FOX = "The quick brown fox jumps over the lazy dog";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void matchesReferenceVectors() throws IOException {
+        assertEquals("00000000000000000000000000000000", hash(""));
+        assertEquals("e271865701f545617eaf87e42bba7d87", hash("foo"));
+        assertEquals("e34bbc7bbc071b6c7a433ca9c49a9347", hash(FOX));
+    }
+
+    @Test
+    void hashesAcrossBufferBoundaries() throws IOException {
+        byte[] large = FOX.repeat(5000).getBytes(StandardCharsets.US_ASCII);
+        Path file = Files.write(dir.resolve("large.csv"), large);
+
+        assertEquals(MurmurHash3.of(new ByteArrayInputStream(large)), MurmurHash3.of(file));
+    }
+
+    @Test
+    void gzipFileIsVerifiedAgainstItsDecompressedContent() throws IOException {
+        Path file = dir.resolve("dataset.csv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(FOX.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        assertTrue(MurmurHash3.matches(file, "E34BBC7BBC071B6C7A433CA9C49A9347"));
+    }
+
+    @Test
+    void onlyThe128BitHexFormatIsValid() {
+        assertTrue(MurmurHash3.isValid(" e34bbc7bbc071b6c7a433ca9c49a9347\n"));
+        assertFalse(MurmurHash3.isValid("e34bbc7b"));
+        assertFalse(MurmurHash3.isValid("-1237456896"));
+        assertFalse(MurmurHash3.isValid("mock-dataset-1"));
+    }
+
+    private static String hash(String value) throws IOException {
+        return MurmurHash3.of(new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
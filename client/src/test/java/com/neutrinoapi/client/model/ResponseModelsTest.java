@@ -0,0 +1,33 @@
+package com.neutrinoapi.client.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ResponseModelsTest {
+
+    @Test
+    void blocklistsCannotBeModified() throws IOException {
+        IPBlocklistResult result = ResponseModels.adapter(IPBlocklistResult.class)
+                .fromJson("{\"ip\":\"1.2.3.4\",\"is-listed\":true,\"blocklists\":[\"bot\",\"spam-bot\"],"
+                        + "\"sensors\":[{\"id\":1,\"blocklist\":\"bot\",\"description\":\"honeypot\"}]}");
+
+        assertEquals(List.of("bot", "spam-bot"), result.getBlocklists());
+        assertThrows(UnsupportedOperationException.class, () -> result.getBlocklists().clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getBlocklists().add("tor"));
+        assertEquals(1, result.getSensors().size());
+        assertThrows(UnsupportedOperationException.class, () -> result.getSensors().clear());
+    }
+
+    @Test
+    void binLookupIpBlocklistsCannotBeModified() throws IOException {
+        BINLookupResult result = ResponseModels.adapter(BINLookupResult.class)
+                .fromJson("{\"bin-number\":\"48334884\",\"ip-blocklists\":[\"proxy\"]}");
+
+        assertEquals(List.of("proxy"), result.getIpBlocklists());
+        assertThrows(UnsupportedOperationException.class, () -> result.getIpBlocklists().remove(0));
+    }
+}
@@ -0,0 +1,176 @@
+package com.neutrinoapi.client.micrometer;
+
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.CallPhase;
+import com.neutrinoapi.client.CallTimings;
+import com.neutrinoapi.client.metrics.ClientMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Record the API client metrics in a Micrometer registry
+ *
+ * <pre>{@code
+ * NeutrinoAPIClient neutrinoAPI = NeutrinoAPIClient.builder(userID, apiKey)
+ *         .metrics(new MicrometerClientMetrics(registry))
+ *         .build();
+ * }</pre>
+ *
+ * <p>Every meter is tagged with the endpoint:</p>
+ * <ul>
+ *     <li>{@code neutrinoapi.client.requests}: timer of completed requests, tagged with the API error code, or
+ *     "cancelled"</li>
+ *     <li>{@code neutrinoapi.client.requests.active}: gauge of requests in flight</li>
+ *     <li>{@code neutrinoapi.client.calls}: timer of each HTTP call phase, tagged with the phase and the host, see
+ *     {@link CallPhase}</li>
+ *     <li>{@code neutrinoapi.client.bytes.sent} and {@code neutrinoapi.client.bytes.received}: counters of network
+ *     bytes, headers included</li>
+ *     <li>{@code neutrinoapi.client.cache}: counter of response cache lookups, tagged with result hit or miss</li>
+ * </ul>
+ */
+public class MicrometerClientMetrics implements ClientMetrics {
+
+    private static final String PREFIX = "neutrinoapi.client";
+    private static final String CANCELLED = "cancelled";
+    private static final CallPhase[] PHASES = CallPhase.values();
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Record the metrics in the registry
+     */
+    public MicrometerClientMetrics(MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * Record the metrics in the registry, with extra tags on every meter (e.g. to tell several clients apart)
+     */
+    public MicrometerClientMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.tags = Tags.of(Objects.requireNonNull(tags, "tags"));
+    }
+
+    @Override
+    public void requestStarted(String endpoint) {
+        endpoint(endpoint).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestCompleted(String endpoint, APIResponse response, long latencyNanos) {
+        Endpoint meters = endpoint(endpoint);
+        meters.inFlight.decrementAndGet();
+        String errorCode = response == null ? CANCELLED : Integer.toString(response.getErrorCode());
+        meters.timers.computeIfAbsent(errorCode, key -> Timer.builder(PREFIX + ".requests")
+                .description("Neutrino API requests, including retries, hedging and failover")
+                .tags(meters.tags)
+                .tag("error.code", key)
+                .register(registry))
+                .record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void callCompleted(String endpoint, CallTimings timings) {
+        Endpoint meters = endpoint(endpoint);
+        Timer[] phaseTimers = meters.phaseTimers.computeIfAbsent(String.valueOf(timings.getHost()), meters::phaseTimers);
+        for (CallPhase phase : PHASES) {
+            long nanos = timings.getNanos(phase);
+            if (nanos >= 0) {
+                phaseTimers[phase.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void bytesSent(String endpoint, long bytes) {
+        endpoint(endpoint).bytesSent.increment(bytes);
+    }
+
+    @Override
+    public void bytesReceived(String endpoint, long bytes) {
+        endpoint(endpoint).bytesReceived.increment(bytes);
+    }
+
+    @Override
+    public void cacheHit(String endpoint) {
+        endpoint(endpoint).cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss(String endpoint) {
+        endpoint(endpoint).cacheMisses.increment();
+    }
+
+    private Endpoint endpoint(String endpoint) {
+        Endpoint meters = endpoints.get(endpoint);
+        return meters != null ? meters : endpoints.computeIfAbsent(endpoint, key -> new Endpoint(tags.and("endpoint", key)));
+    }
+
+    /**
+     * The meters of one endpoint, registered on first use
+     */
+    private final class Endpoint {
+
+        final Tags tags;
+        final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        final Map<String, Timer[]> phaseTimers = new ConcurrentHashMap<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final Counter bytesSent;
+        final Counter bytesReceived;
+        final Counter cacheHits;
+        final Counter cacheMisses;
+
+        Endpoint(Tags tags) {
+            this.tags = tags;
+            Gauge.builder(PREFIX + ".requests.active", inFlight, AtomicInteger::get)
+                    .description("Neutrino API requests in flight")
+                    .tags(tags)
+                    .register(registry);
+            bytesSent = bytesCounter("sent", tags);
+            bytesReceived = bytesCounter("received", tags);
+            cacheHits = cacheCounter("hit", tags);
+            cacheMisses = cacheCounter("miss", tags);
+        }
+
+        Timer[] phaseTimers(String host) {
+            Timer[] phaseTimers = new Timer[PHASES.length];
+            for (CallPhase phase : PHASES) {
+                phaseTimers[phase.ordinal()] = Timer.builder(PREFIX + ".calls")
+                        .description("Neutrino API HTTP call phases")
+                        .tags(tags)
+                        .tag("host", host)
+                        .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+            return phaseTimers;
+        }
+
+        private Counter bytesCounter(String direction, Tags tags) {
+            return Counter.builder(PREFIX + ".bytes." + direction)
+                    .description("Network bytes " + direction + ", headers included")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+        private Counter cacheCounter(String result, Tags tags) {
+            return Counter.builder(PREFIX + ".cache")
+                    .description("Response cache lookups")
+                    .tags(tags)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.neutrinoapi.mockserver;
+
+import com.neutrinoapi.client.APIErrorCode;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.SocketPolicy;
+
+/**
+ * A fault injected into a fraction of the responses, for all endpoints or one endpoint
+ */
+abstract class Fault {
+
+    final String endpoint;
+    final double probability;
+
+    Fault(String endpoint, double probability) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("probability not in [0, 1]: " + probability);
+        }
+        this.endpoint = endpoint;
+        this.probability = probability;
+    }
+
+    /**
+     * Does the fault apply to the endpoint
+     */
+    boolean appliesTo(String endpoint) {
+        return this.endpoint == null || this.endpoint.equals(endpoint);
+    }
+
+    /**
+     * Apply the fault to the response the endpoint would otherwise send
+     */
+    abstract MockResponse apply(MockResponse response);
+
+    /**
+     * Respond with an API error, with the HTTP status the API uses for it
+     */
+    static Fault apiError(String endpoint, int errorCode, double probability) {
+        String body = String.format("{\"api-error\":%d,\"api-error-msg\":\"%s\"}", errorCode, APIErrorCode.getErrorMessage(errorCode));
+        int statusCode = errorStatus(errorCode);
+        return new Fault(endpoint, probability) {
+            @Override
+            MockResponse apply(MockResponse response) {
+                return response.setResponseCode(statusCode)
+                        .setHeader("Content-Type", Payloads.JSON)
+                        .setBody(body);
+            }
+        };
+    }
+
+    /**
+     * Respond with an HTTP error from a proxy in front of the API, without an API error code
+     */
+    static Fault serverError(String endpoint, int statusCode, double probability) {
+        if (statusCode < 500 || statusCode > 599) {
+            throw new IllegalArgumentException("not a 5xx status: " + statusCode);
+        }
+        String body = String.format("<html><body><h1>%d Server Error</h1></body></html>", statusCode);
+        return new Fault(endpoint, probability) {
+            @Override
+            MockResponse apply(MockResponse response) {
+                return response.setResponseCode(statusCode)
+                        .setHeader("Content-Type", "text/html")
+                        .setBody(body);
+            }
+        };
+    }
+
+    /**
+     * Send the response body slowly, taking about the given duration in ten chunks
+     */
+    static Fault slowBody(String endpoint, Duration duration, double probability) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("duration < 0: " + duration);
+        }
+        long periodNanos = duration.toNanos() / 10;
+        return new Fault(endpoint, probability) {
+            @Override
+            MockResponse apply(MockResponse response) {
+                long size = response.getBody() != null ? response.getBody().size() : 0;
+                long chunk = Math.max(1, (size + 9) / 10);
+                return response.throttleBody(chunk, periodNanos, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * Close the connection after reading the request, without responding
+     */
+    static Fault disconnect(String endpoint, double probability) {
+        return new Fault(endpoint, probability) {
+            @Override
+            MockResponse apply(MockResponse response) {
+                return response.setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+            }
+        };
+    }
+
+    private static int errorStatus(int errorCode) {
+        switch (errorCode) {
+            case APIErrorCode.CONCURRENT:
+            case APIErrorCode.MAX_CALL_LIMIT:
+                return 429;
+            case APIErrorCode.ACCESS_DENIED:
+            case APIErrorCode.FREE_LIMIT:
+            case APIErrorCode.CREDIT_LIMIT_REACHED:
+            case APIErrorCode.USER_DEFINED_DAILY_LIMIT:
+            case APIErrorCode.ACCESS_FORBIDDEN:
+                return 403;
+            case APIErrorCode.NO_ENDPOINT:
+                return 404;
+            case APIErrorCode.REQUEST_TOO_LARGE:
+                return 413;
+            case APIErrorCode.INTERNAL_SERVER_ERROR:
+                return 500;
+            case APIErrorCode.NOT_RESPONDING:
+            case APIErrorCode.SERVER_OFFLINE:
+                return 503;
+            default:
+                return 400;
+        }
+    }
+}
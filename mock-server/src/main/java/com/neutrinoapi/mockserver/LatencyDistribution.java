@@ -0,0 +1,66 @@
+package com.neutrinoapi.mockserver;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The distribution of server latency, the time before the mock server sends the response headers
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Sample a latency in nanoseconds
+     */
+    long sampleNanos();
+
+    /**
+     * Respond immediately
+     */
+    static LatencyDistribution none() {
+        return () -> 0;
+    }
+
+    /**
+     * Always the same latency
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = requireNonNegative(latency, "latency").toNanos();
+        return () -> nanos;
+    }
+
+    /**
+     * Latency uniformly distributed between min and max
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = requireNonNegative(min, "min").toNanos();
+        long maxNanos = requireNonNegative(max, "max").toNanos();
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException(String.format("max < min: %s < %s", max, min));
+        }
+        return () -> ThreadLocalRandom.current().nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * Log-normal latency with the given median and 99th percentile, the long tailed shape of real API latency
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        long medianNanos = requireNonNegative(median, "median").toNanos();
+        long p99Nanos = requireNonNegative(p99, "p99").toNanos();
+        if (medianNanos == 0 || p99Nanos < medianNanos) {
+            throw new IllegalArgumentException(String.format("invalid latency: median %s, p99 %s", median, p99));
+        }
+        // The 99th percentile is 2.326 standard deviations above the median
+        double mu = Math.log(medianNanos);
+        double sigma = Math.log((double) p99Nanos / medianNanos) / 2.3263478740408408;
+        return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    private static Duration requireNonNegative(Duration duration, String name) {
+        if (Objects.requireNonNull(duration, name).isNegative()) {
+            throw new IllegalArgumentException(name + " < 0: " + duration);
+        }
+        return duration;
+    }
+}
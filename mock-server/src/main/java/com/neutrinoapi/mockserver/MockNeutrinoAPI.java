@@ -0,0 +1,215 @@
+package com.neutrinoapi.mockserver;
+
+import com.neutrinoapi.client.APIErrorCode;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * Local stand-in for the Neutrino API, to test and load test clients offline without using API credits
+ *
+ * <p>Every endpoint of the client is served with a canned JSON or binary response. Latency, API errors, 5xx
+ * responses, slow bodies and dropped connections can be injected to exercise retries, failover, hedging and
+ * concurrency limiting, see {@link MockNeutrinoAPIBuilder}.</p>
+ *
+ * <pre>{@code
+ * try (MockNeutrinoAPI server = MockNeutrinoAPI.builder()
+ *         .latency(LatencyDistribution.logNormal(Duration.ofMillis(20), Duration.ofMillis(200)))
+ *         .apiError(APIErrorCode.CONCURRENT, 0.01)
+ *         .start()) {
+ *     NeutrinoAPIClient neutrinoAPI = new NeutrinoAPIClient("user", "key", server.getBaseURL());
+ *     ...
+ * }
+ * }</pre>
+ */
+public class MockNeutrinoAPI implements AutoCloseable {
+
+    /**
+     * Every endpoint served, the same endpoints as the client
+     */
+    public static final Set<String> ENDPOINTS = Set.of(
+            "bad-word-filter", "bin-list-download", "bin-lookup", "browser-bot", "convert", "domain-lookup",
+            "email-validate", "email-verify", "geocode-address", "geocode-reverse", "hlr-lookup", "host-reputation",
+            "html-clean", "html-render", "image-resize", "image-watermark", "ip-blocklist", "ip-blocklist-download",
+            "ip-info", "ip-probe", "phone-playback", "phone-validate", "phone-verify", "qr-code", "sms-verify",
+            "ua-lookup", "url-info", "verify-security-code");
+
+    private final MockWebServer server = new MockWebServer();
+    private final LatencyDistribution latency;
+    private final Map<String, LatencyDistribution> endpointLatency;
+    private final List<Fault> faults;
+    private final Map<String, String> jsonResponses;
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    MockNeutrinoAPI(MockNeutrinoAPIBuilder builder) {
+        this.latency = builder.latency;
+        this.endpointLatency = Map.copyOf(builder.endpointLatency);
+        this.faults = List.copyOf(builder.faults);
+        this.jsonResponses = Map.copyOf(builder.jsonResponses);
+        if (builder.http2) {
+            server.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        }
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                // Recorded requests are queued until taken, drop them so long load tests do not run out of memory
+                server.takeRequest(0, TimeUnit.NANOSECONDS);
+                return respond(request);
+            }
+        });
+    }
+
+    /**
+     * Configure a mock server
+     */
+    public static MockNeutrinoAPIBuilder builder() {
+        return new MockNeutrinoAPIBuilder();
+    }
+
+    /**
+     * The base URL of the server, to use as the client's base URL
+     */
+    public String getBaseURL() {
+        return server.url("/").toString();
+    }
+
+    /**
+     * The port the server listens on
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+
+    /**
+     * Number of requests received by all endpoints
+     */
+    public long getRequestCount() {
+        return requestCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Number of requests received by an endpoint, e.g. "ip-info"
+     */
+    public long getRequestCount(String endpoint) {
+        LongAdder count = requestCounts.get(endpoint);
+        return count != null ? count.sum() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    void start(int port) throws IOException {
+        server.start(port);
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        String path = request.getRequestUrl() != null ? request.getRequestUrl().encodedPath() : "/";
+        String endpoint = path.substring(path.lastIndexOf('/') + 1);
+        if (!ENDPOINTS.contains(endpoint)) {
+            return Fault.apiError(null, APIErrorCode.NO_ENDPOINT, 1).apply(new MockResponse());
+        }
+        requestCounts.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        if (request.getHeader("User-ID") == null || request.getHeader("API-Key") == null) {
+            return Fault.apiError(null, APIErrorCode.ACCESS_DENIED, 1).apply(new MockResponse());
+        }
+        MockResponse response = cannedResponse(endpoint, request);
+        long latencyNanos = endpointLatency.getOrDefault(endpoint, latency).sampleNanos();
+        if (latencyNanos > 0) {
+            response.setHeadersDelay(latencyNanos, TimeUnit.NANOSECONDS);
+        }
+        Fault fault = pickFault(endpoint);
+        return fault != null ? fault.apply(response) : response;
+    }
+
+    private MockResponse cannedResponse(String endpoint, RecordedRequest request) {
+        String params = request.getMethod().equals("POST") ? request.getBody().clone().readUtf8() : request.getRequestUrl().query();
+        String checksum = Payloads.checksum(endpoint);
+        if (checksum != null && params != null && params.contains("checksum=true")) {
+            return json(String.format("{\"checksum\":\"%s\"}", checksum));
+        }
+        Payloads.Body binary = Payloads.binary(endpoint);
+        if (binary != null) {
+            return new MockResponse()
+                    .setHeader("Content-Type", binary.contentType)
+                    .setBody(new Buffer().write(binary.bytes));
+        }
+        return json(jsonResponses.get(endpoint));
+    }
+
+    private Fault pickFault(String endpoint) {
+        if (faults.isEmpty()) {
+            return null;
+        }
+        double draw = ThreadLocalRandom.current().nextDouble();
+        double cumulative = 0;
+        for (Fault fault : faults) {
+            if (fault.appliesTo(endpoint)) {
+                cumulative += fault.probability;
+                if (draw < cumulative) {
+                    return fault;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", Payloads.JSON)
+                .setBody(body);
+    }
+
+    /**
+     * Run a standalone mock server, e.g. for load tests from another process
+     *
+     * <p>Arguments: {@code [port] [--http2] [--latency <median ms>,<p99 ms>] [--error <error code>,<probability>]},
+     * the error option may be repeated.</p>
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        MockNeutrinoAPIBuilder builder = builder();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--http2":
+                    builder.http2();
+                    break;
+                case "--latency": {
+                    String[] values = args[++i].split(",");
+                    builder.latency(LatencyDistribution.logNormal(Duration.ofMillis(Long.parseLong(values[0])),
+                            Duration.ofMillis(Long.parseLong(values[1]))));
+                    break;
+                }
+                case "--error": {
+                    String[] values = args[++i].split(",");
+                    builder.apiError(Integer.parseInt(values[0]), Double.parseDouble(values[1]));
+                    break;
+                }
+                default:
+                    builder.port(Integer.parseInt(args[i]));
+            }
+        }
+        MockNeutrinoAPI server = builder.start();
+        System.out.println("Mock Neutrino API listening on " + server.getBaseURL());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // Exiting anyway
+            }
+        }));
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,133 @@
+package com.neutrinoapi.mockserver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configure and start a mock Neutrino API server
+ *
+ * <p>Faults are chosen independently for each request: one random draw picks at most one fault, in the order they
+ * were added, so their probabilities for an endpoint should add up to at most 1.</p>
+ */
+public class MockNeutrinoAPIBuilder {
+
+    int port;
+    boolean http2;
+    LatencyDistribution latency = LatencyDistribution.none();
+    final Map<String, LatencyDistribution> endpointLatency = new HashMap<>();
+    final List<Fault> faults = new ArrayList<>();
+    final Map<String, String> jsonResponses = new HashMap<>(Payloads.JSON_RESPONSES);
+
+    MockNeutrinoAPIBuilder() {
+    }
+
+    /**
+     * Listen on a fixed port, defaults to any free port
+     */
+    public MockNeutrinoAPIBuilder port(int port) {
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("invalid port: " + port);
+        }
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * Serve cleartext HTTP/2 (h2c with prior knowledge) instead of HTTP/1.1, clients must be built with
+     * {@link com.neutrinoapi.client.NeutrinoAPIClientBuilder#http2PriorKnowledge()}
+     */
+    public MockNeutrinoAPIBuilder http2() {
+        this.http2 = true;
+        return this;
+    }
+
+    /**
+     * The server latency of every endpoint, defaults to none
+     */
+    public MockNeutrinoAPIBuilder latency(LatencyDistribution latency) {
+        this.latency = Objects.requireNonNull(latency, "latency");
+        return this;
+    }
+
+    /**
+     * The server latency of one endpoint, e.g. "ip-info"
+     */
+    public MockNeutrinoAPIBuilder latency(String endpoint, LatencyDistribution latency) {
+        endpointLatency.put(requireEndpoint(endpoint), Objects.requireNonNull(latency, "latency"));
+        return this;
+    }
+
+    /**
+     * Respond to a fraction of the requests with an API error, e.g. {@link com.neutrinoapi.client.APIErrorCode#CONCURRENT}
+     */
+    public MockNeutrinoAPIBuilder apiError(int errorCode, double probability) {
+        faults.add(Fault.apiError(null, errorCode, probability));
+        return this;
+    }
+
+    /**
+     * Respond to a fraction of the requests to one endpoint with an API error
+     */
+    public MockNeutrinoAPIBuilder apiError(String endpoint, int errorCode, double probability) {
+        faults.add(Fault.apiError(requireEndpoint(endpoint), errorCode, probability));
+        return this;
+    }
+
+    /**
+     * Respond to a fraction of the requests with a 5xx status and an HTML body, as a failing proxy or load balancer
+     * would
+     */
+    public MockNeutrinoAPIBuilder serverError(int statusCode, double probability) {
+        faults.add(Fault.serverError(null, statusCode, probability));
+        return this;
+    }
+
+    /**
+     * Send the response body of a fraction of the requests slowly, taking about the given duration
+     */
+    public MockNeutrinoAPIBuilder slowBody(Duration duration, double probability) {
+        faults.add(Fault.slowBody(null, Objects.requireNonNull(duration, "duration"), probability));
+        return this;
+    }
+
+    /**
+     * Drop the connection of a fraction of the requests without responding
+     */
+    public MockNeutrinoAPIBuilder disconnect(double probability) {
+        faults.add(Fault.disconnect(null, probability));
+        return this;
+    }
+
+    /**
+     * Replace the canned JSON response of an endpoint
+     */
+    public MockNeutrinoAPIBuilder response(String endpoint, String json) {
+        if (Payloads.binary(requireEndpoint(endpoint)) != null) {
+            throw new IllegalArgumentException("not a JSON endpoint: " + endpoint);
+        }
+        jsonResponses.put(endpoint, Objects.requireNonNull(json, "json"));
+        return this;
+    }
+
+    /**
+     * Start the server
+     */
+    public MockNeutrinoAPI start() throws IOException {
+        MockNeutrinoAPI server = new MockNeutrinoAPI(this);
+        server.start(port);
+        return server;
+    }
+
+    private static String requireEndpoint(String endpoint) {
+        Objects.requireNonNull(endpoint, "endpoint");
+        if (!MockNeutrinoAPI.ENDPOINTS.contains(endpoint)) {
+            throw new IllegalArgumentException("unknown endpoint: " + endpoint);
+        }
+        return endpoint;
+    }
+}
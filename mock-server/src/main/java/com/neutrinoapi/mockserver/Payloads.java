@@ -0,0 +1,184 @@
+package com.neutrinoapi.mockserver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Canned responses for every Neutrino API endpoint, representative of the real responses in shape and size
+ */
+final class Payloads {
+
+    static final String JSON = "application/json;charset=UTF-8";
+
+    /**
+     * The MurmurHash3 x64 128-bit checksums of the canned dataset files, update them when the files change
+     */
+    private static final String IP_BLOCKLIST_CHECKSUM = "82f04c65182ef7ca772d562c1a81ba64";
+    private static final String BIN_LIST_CHECKSUM = "75c1cc6b4b6b0694f0fbeb3aafc080af";
+
+    /**
+     * A 1x1 pixel PNG image
+     */
+    private static final byte[] PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    private static final byte[] PDF = ("%PDF-1.4\n1 0 obj<</Type/Catalog/Pages 2 0 R>>endobj\n"
+            + "2 0 obj<</Type/Pages/Kids[3 0 R]/Count 1>>endobj\n"
+            + "3 0 obj<</Type/Page/Parent 2 0 R/MediaBox[0 0 612 792]>>endobj\n"
+            + "trailer<</Root 1 0 R>>\n%%EOF\n").getBytes(StandardCharsets.US_ASCII);
+
+    private static final String IP_BLOCKLIST_CSV = "ip,is-proxy,is-tor,is-vpn,is-malware,is-spyware,is-dshield,"
+            + "is-hijacked,is-spider,is-bot,is-spam-bot,is-exploit-bot,last-seen,list-count\n"
+            + "1.0.0.0/24,false,false,false,true,false,false,false,false,false,false,false,1700000000,2\n"
+            + "5.2.69.0/24,true,false,true,false,false,false,false,false,false,false,false,1700000000,3\n"
+            + "45.9.148.0/22,false,false,false,false,false,true,false,false,true,false,true,1700000000,4\n"
+            + "185.220.101.1/32,true,true,false,false,false,false,false,false,false,false,false,1700000000,6\n";
+
+    private static final String BIN_LIST_CSV = "bin-number,card-brand,card-type,card-category,issuer,country-code,"
+            + "is-commercial,is-prepaid\n"
+            + "48334884,VISA,DEBIT,CLASSIC,COMMONWEALTH BANK OF AUSTRALIA,AU,false,false\n"
+            + "51234567,MASTERCARD,CREDIT,STANDARD,WESTPAC BANKING CORPORATION,AU,false,false\n"
+            + "37828224,AMERICAN EXPRESS,CREDIT,GOLD,AMERICAN EXPRESS,US,true,false\n";
+
+    /**
+     * JSON responses by endpoint
+     */
+    static final Map<String, String> JSON_RESPONSES = Map.ofEntries(
+            Map.entry("bad-word-filter", "{\"is-bad\":true,\"bad-words-total\":1,\"bad-words-list\":[\"shit\"],"
+                    + "\"censored-content\":\"what the ****\"}"),
+            Map.entry("bin-lookup", "{\"valid\":true,\"bin-number\":\"48334884\",\"card-brand\":\"VISA\","
+                    + "\"card-type\":\"DEBIT\",\"card-category\":\"CLASSIC\",\"issuer\":\"COMMONWEALTH BANK OF AUSTRALIA\","
+                    + "\"issuer-website\":\"https://www.commbank.com.au\",\"issuer-phone\":\"+61 13 2221\","
+                    + "\"country\":\"AUSTRALIA\",\"country-code\":\"AU\",\"country-code3\":\"AUS\",\"currency-code\":\"AUD\","
+                    + "\"is-commercial\":false,\"is-prepaid\":false,\"ip-matches-bin\":false,\"ip-blocklisted\":false,"
+                    + "\"ip-blocklists\":[],\"ip-country\":\"\",\"ip-country-code\":\"\",\"ip-country-code3\":\"\","
+                    + "\"ip-region\":\"\",\"ip-city\":\"\"}"),
+            Map.entry("browser-bot", "{\"url\":\"https://www.example.com/\",\"content\":\"<html></html>\","
+                    + "\"mime-type\":\"text/html\",\"title\":\"Example Domain\",\"is-error\":false,\"is-timeout\":false,"
+                    + "\"error-message\":\"\",\"http-status-code\":200,\"http-status-message\":\"OK\",\"is-http-ok\":true,"
+                    + "\"is-http-redirect\":false,\"http-redirect-url\":\"\",\"server-ip\":\"93.184.216.34\","
+                    + "\"load-time\":0.412,\"response-headers\":{},\"is-secure\":true,\"security-details\":{},"
+                    + "\"elements\":[],\"exec-results\":[],\"language-code\":\"en\"}"),
+            Map.entry("convert", "{\"valid\":true,\"result\":\"0.64\",\"result-float\":0.64,\"from-value\":\"1\","
+                    + "\"from-type\":\"AUD\",\"from-name\":\"Australian Dollar\",\"to-type\":\"USD\","
+                    + "\"to-name\":\"United States Dollar\",\"type\":\"currency\"}"),
+            Map.entry("domain-lookup", "{\"domain\":\"example.com\",\"valid\":true,\"fqdn\":\"example.com\","
+                    + "\"is-subdomain\":false,\"tld\":\"com\",\"tld-cc\":\"\",\"rank\":0,\"is-gov\":false,\"is-opennic\":false,"
+                    + "\"is-pending\":false,\"is-adult\":false,\"is-malicious\":false,\"blocklists\":[],\"sensors\":[],"
+                    + "\"registered-date\":\"1995-08-14\",\"age\":10000,\"registrar-name\":\"RESERVED-Internet Assigned Numbers Authority\","
+                    + "\"registrar-id\":376,\"dns-provider\":\"iana.org\",\"mail-provider\":\"\"}"),
+            Map.entry("email-validate", "{\"valid\":true,\"syntax-error\":false,\"domain\":\"example.com\","
+                    + "\"domain-error\":false,\"is-freemail\":false,\"email\":\"test@example.com\",\"is-disposable\":false,"
+                    + "\"is-personal\":true,\"provider\":\"\",\"typos-fixed\":false}"),
+            Map.entry("email-verify", "{\"valid\":true,\"verified\":true,\"email\":\"test@example.com\","
+                    + "\"domain\":\"example.com\",\"provider\":\"\",\"is-freemail\":false,\"is-disposable\":false,"
+                    + "\"is-personal\":true,\"is-catch-all\":false,\"is-deferred\":false,\"smtp-status\":\"ok\","
+                    + "\"smtp-response\":\"250 2.1.5 OK\",\"syntax-error\":false,\"domain-error\":false,\"typos-fixed\":false}"),
+            Map.entry("geocode-address", "{\"found\":1,\"locations\":[{\"address\":\"1 Macquarie St, Sydney NSW 2000, Australia\","
+                    + "\"house-number\":\"1\",\"street\":\"Macquarie St\",\"city\":\"Sydney\",\"state\":\"New South Wales\","
+                    + "\"postal-code\":\"2000\",\"country\":\"Australia\",\"country-code\":\"AU\",\"latitude\":-33.8617,"
+                    + "\"longitude\":151.2130,\"location-type\":\"address\",\"location-tags\":[]}]}"),
+            Map.entry("geocode-reverse", "{\"found\":true,\"address\":\"1 Macquarie St, Sydney NSW 2000, Australia\","
+                    + "\"address-components\":{},\"house-number\":\"1\",\"street\":\"Macquarie St\",\"city\":\"Sydney\","
+                    + "\"state\":\"New South Wales\",\"postal-code\":\"2000\",\"country\":\"Australia\",\"country-code\":\"AU\","
+                    + "\"latitude\":-33.8617,\"longitude\":151.2130,\"location-type\":\"address\",\"location-tags\":[]}"),
+            Map.entry("hlr-lookup", "{\"number-valid\":true,\"international-calling-code\":\"61\",\"mnc\":\"01\","
+                    + "\"number-type\":\"mobile\",\"hlr-valid\":true,\"hlr-status\":\"ok\",\"ported-network\":\"\","
+                    + "\"imsi\":\"505010000000000\",\"mcc\":\"505\",\"international-number\":\"+61412345678\","
+                    + "\"local-number\":\"0412 345 678\",\"country\":\"Australia\",\"is-ported\":false,\"msin\":\"\","
+                    + "\"country-code\":\"AU\",\"country-code3\":\"AUS\",\"currency-code\":\"AUD\",\"msc\":\"\","
+                    + "\"current-network\":\"Telstra\",\"origin-network\":\"Telstra\",\"is-roaming\":false,\"roaming-country-code\":\"\"}"),
+            Map.entry("host-reputation", "{\"host\":\"1.1.1.1\",\"is-listed\":false,\"list-count\":0,\"lists\":[]}"),
+            Map.entry("ip-blocklist", "{\"ip\":\"1.1.1.1\",\"is-listed\":false,\"is-hijacked\":false,\"is-spider\":false,"
+                    + "\"is-tor\":false,\"is-proxy\":false,\"is-malware\":false,\"is-vpn\":false,\"is-bot\":false,"
+                    + "\"is-spam-bot\":false,\"is-exploit-bot\":false,\"list-count\":0,\"blocklists\":[],\"last-seen\":0,"
+                    + "\"sensors\":[],\"cidr\":\"\",\"is-dshield\":false,\"is-spyware\":false,\"is-v6\":false}"),
+            Map.entry("ip-info", "{\"ip\":\"1.1.1.1\",\"valid\":true,\"is-v6\":false,\"is-v4-mapped\":false,"
+                    + "\"is-bogon\":false,\"country\":\"Australia\",\"country-code\":\"AU\",\"country-code3\":\"AUS\","
+                    + "\"continent-code\":\"OC\",\"currency-code\":\"AUD\",\"city\":\"Brisbane\",\"region\":\"Queensland\","
+                    + "\"region-code\":\"QLD\",\"latitude\":-27.467,\"longitude\":153.028,\"language-code\":\"en\","
+                    + "\"hostname\":\"one.one.one.one\",\"host-domain\":\"one.one.one.one\",\"timezone\":{\"id\":\"Australia/Brisbane\","
+                    + "\"name\":\"AEST\",\"abbr\":\"AEST\",\"date\":\"2024-01-01\",\"time\":\"10:00:00.000000\",\"offset\":\"+10:00\"}}"),
+            Map.entry("ip-probe", "{\"valid\":true,\"country\":\"Australia\",\"provider-type\":\"hosting\","
+                    + "\"country-code\":\"AU\",\"hostname\":\"one.one.one.one\",\"provider-domain\":\"cloudflare.com\","
+                    + "\"city\":\"Brisbane\",\"provider-website\":\"https://www.cloudflare.com\",\"ip\":\"1.1.1.1\","
+                    + "\"region\":\"Queensland\",\"provider-description\":\"Cloudflare Inc\",\"continent-code\":\"OC\","
+                    + "\"is-hosting\":true,\"is-isp\":false,\"country-code3\":\"AUS\",\"currency-code\":\"AUD\","
+                    + "\"is-vpn\":false,\"is-proxy\":false,\"asn\":\"13335\",\"as-cidr\":\"1.1.1.0/24\",\"as-country-code\":\"US\","
+                    + "\"as-country-code3\":\"USA\",\"as-domains\":[\"cloudflare.com\"],\"as-description\":\"CLOUDFLARENET\","
+                    + "\"as-age\":14,\"host-domain\":\"one.one.one.one\",\"vpn-domain\":\"\",\"is-v6\":false,\"is-bogon\":false}"),
+            Map.entry("phone-playback", "{\"calling\":true,\"number-valid\":true}"),
+            Map.entry("phone-validate", "{\"valid\":true,\"type\":\"mobile\",\"international-calling-code\":\"61\","
+                    + "\"international-number\":\"+61412345678\",\"local-number\":\"0412 345 678\",\"location\":\"Australia\","
+                    + "\"country\":\"Australia\",\"country-code\":\"AU\",\"country-code3\":\"AUS\",\"currency-code\":\"AUD\","
+                    + "\"is-mobile\":true,\"prefix-network\":\"Telstra\"}"),
+            Map.entry("phone-verify", "{\"calling\":true,\"number-valid\":true,\"security-code\":\"12345\"}"),
+            Map.entry("sms-verify", "{\"sent\":true,\"number-valid\":true,\"security-code\":\"12345\"}"),
+            Map.entry("ua-lookup", "{\"ua\":\"Mozilla/5.0\",\"type\":\"desktop\",\"name\":\"Chrome\",\"version\":\"120.0\","
+                    + "\"version-major\":\"120\",\"is-mobile\":false,\"is-webview\":false,\"producer\":\"Google Inc.\","
+                    + "\"os\":\"Windows\",\"os-family\":\"Windows\",\"os-version\":\"10\",\"os-version-major\":\"10\","
+                    + "\"device-brand\":\"\",\"device-model\":\"\",\"device-price\":0,\"device-release\":\"\","
+                    + "\"device-resolution\":\"\",\"device-ppi\":0,\"engine\":\"Blink\",\"engine-version\":\"120.0\"}"),
+            Map.entry("url-info", "{\"url\":\"https://www.example.com/\",\"valid-url\":true,\"is-error\":false,"
+                    + "\"is-timeout\":false,\"http-status\":200,\"http-status-message\":\"OK\",\"http-ok\":true,"
+                    + "\"http-redirect\":false,\"content-type\":\"text/html\",\"content-encoding\":\"UTF-8\",\"content-size\":0,"
+                    + "\"title\":\"Example Domain\",\"real\":true,\"server-ip\":\"93.184.216.34\",\"server-hostname\":\"\","
+                    + "\"server-country\":\"United States\",\"server-country-code\":\"US\",\"server-region\":\"\","
+                    + "\"server-city\":\"\",\"load-time\":0.211,\"url-port\":443,\"url-protocol\":\"https\","
+                    + "\"url-path\":\"/\",\"query\":{},\"content\":\"\",\"language-code\":\"en\",\"is-secure\":true}"),
+            Map.entry("verify-security-code", "{\"verified\":true}"));
+
+    private Payloads() {
+    }
+
+    /**
+     * The checksum of a dataset download, or null if the endpoint is not a dataset download
+     */
+    static String checksum(String endpoint) {
+        switch (endpoint) {
+            case "ip-blocklist-download":
+                return IP_BLOCKLIST_CHECKSUM;
+            case "bin-list-download":
+                return BIN_LIST_CHECKSUM;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * A binary response, or null if the endpoint returns JSON
+     */
+    static Body binary(String endpoint) {
+        switch (endpoint) {
+            case "html-clean":
+                return new Body("text/html;charset=UTF-8", "<p>Hello world</p>".getBytes(StandardCharsets.UTF_8));
+            case "html-render":
+                return new Body("application/pdf", PDF);
+            case "image-resize":
+            case "image-watermark":
+            case "qr-code":
+                return new Body("image/png", PNG);
+            case "ip-blocklist-download":
+                return new Body("text/csv;charset=UTF-8", IP_BLOCKLIST_CSV.getBytes(StandardCharsets.UTF_8));
+            case "bin-list-download":
+                return new Body("text/csv;charset=UTF-8", BIN_LIST_CSV.getBytes(StandardCharsets.UTF_8));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * A response body and its content type
+     */
+    static final class Body {
+
+        final String contentType;
+        final byte[] bytes;
+
+        Body(String contentType, byte[] bytes) {
+            this.contentType = contentType;
+            this.bytes = bytes;
+        }
+    }
+}
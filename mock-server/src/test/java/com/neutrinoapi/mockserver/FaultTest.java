@@ -0,0 +1,122 @@
+package com.neutrinoapi.mockserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.neutrinoapi.client.APIErrorCode;
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FaultTest {
+
+    private static final Map<String, String> PARAMS = Map.of("ip", "1.1.1.1");
+
+    @Test
+    void apiErrorUsesTheStatusOfTheAPI() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().apiError(APIErrorCode.CONCURRENT, 1).start();
+             NeutrinoAPIClient client = client(server)) {
+            APIResponse response = client.ipInfo(PARAMS);
+
+            assertEquals(APIErrorCode.CONCURRENT, response.getErrorCode());
+            assertEquals(429, response.getHttpStatusCode());
+        }
+    }
+
+    @Test
+    void endpointApiErrorOnlyAppliesToThatEndpoint() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().apiError("ip-info", APIErrorCode.ACCESS_DENIED, 1).start();
+             NeutrinoAPIClient client = client(server)) {
+            APIResponse failed = client.ipInfo(PARAMS);
+
+            assertEquals(APIErrorCode.ACCESS_DENIED, failed.getErrorCode());
+            assertEquals(403, failed.getHttpStatusCode());
+            assertEquals(0, client.ipBlocklist(PARAMS).getErrorCode());
+        }
+    }
+
+    @Test
+    void serverErrorHasNoAPIErrorCode() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().serverError(503, 1).start();
+             NeutrinoAPIClient client = client(server)) {
+            APIResponse response = client.ipInfo(PARAMS);
+
+            assertEquals(APIErrorCode.API_GATEWAY_ERROR, response.getErrorCode());
+            assertEquals(503, response.getHttpStatusCode());
+        }
+    }
+
+    @Test
+    void slowBodyTakesAboutTheGivenDuration() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().slowBody(Duration.ofMillis(500), 1).start();
+             NeutrinoAPIClient client = client(server)) {
+            long startNanos = System.nanoTime();
+            APIResponse response = client.ipInfo(PARAMS);
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+            assertEquals(0, response.getErrorCode(), response.getErrorMessage());
+            assertTrue(elapsedMillis >= 400, "took " + elapsedMillis + " ms");
+        }
+    }
+
+    @Test
+    void disconnectDropsTheConnection() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().disconnect(1).start();
+             NeutrinoAPIClient client = client(server)) {
+            assertEquals(APIErrorCode.NETWORK_IO_ERROR, client.ipInfo(PARAMS).getErrorCode());
+        }
+    }
+
+    @Test
+    void oneDrawPicksAtMostOneFaultInTheOrderAdded() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder()
+                .apiError(APIErrorCode.CONCURRENT, 1)
+                .serverError(503, 1)
+                .start();
+             NeutrinoAPIClient client = client(server)) {
+            for (int i = 0; i < 20; i++) {
+                assertEquals(APIErrorCode.CONCURRENT, client.ipInfo(PARAMS).getErrorCode());
+            }
+        }
+    }
+
+    @Test
+    void faultProbabilitiesSplitTheRequests() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder()
+                .apiError(APIErrorCode.MAX_CALL_LIMIT, 0)
+                .apiError(APIErrorCode.CONCURRENT, 0.5)
+                .serverError(503, 0.5)
+                .start();
+             NeutrinoAPIClient client = client(server)) {
+            int concurrent = 0;
+            int serverErrors = 0;
+            for (int i = 0; i < 200; i++) {
+                int errorCode = client.ipInfo(PARAMS).getErrorCode();
+                if (errorCode == APIErrorCode.CONCURRENT) {
+                    concurrent++;
+                } else if (errorCode == APIErrorCode.API_GATEWAY_ERROR) {
+                    serverErrors++;
+                }
+            }
+
+            // The probabilities add up to 1, so every request is faulted, and never with the zero probability fault
+            assertEquals(200, concurrent + serverErrors);
+            assertTrue(concurrent > 50 && serverErrors > 50, concurrent + " API errors, " + serverErrors + " server errors");
+        }
+    }
+
+    @Test
+    void rejectsInvalidFaults() {
+        assertThrows(IllegalArgumentException.class, () -> MockNeutrinoAPI.builder().apiError(APIErrorCode.CONCURRENT, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> MockNeutrinoAPI.builder().serverError(404, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> MockNeutrinoAPI.builder().apiError("no-such-api", APIErrorCode.CONCURRENT, 0.1));
+    }
+
+    private static NeutrinoAPIClient client(MockNeutrinoAPI server) {
+        return new NeutrinoAPIClient("user", "key", server.getBaseURL());
+    }
+}
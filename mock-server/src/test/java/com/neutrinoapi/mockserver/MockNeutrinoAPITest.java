@@ -0,0 +1,98 @@
+package com.neutrinoapi.mockserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.neutrinoapi.client.APIResponse;
+import com.neutrinoapi.client.NeutrinoAPIClient;
+import com.neutrinoapi.client.dataset.DatasetRefresher;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockNeutrinoAPITest {
+
+    private static final Map<String, String> PARAMS = Map.of("value", "1");
+
+    /**
+     * Every client method by the endpoint it calls, file output methods write into the given directory
+     */
+    private static final Map<String, BiFunction<NeutrinoAPIClient, Path, APIResponse>> CALLS = Map.ofEntries(
+            Map.entry("bad-word-filter", (client, dir) -> client.badWordFilter(PARAMS)),
+            Map.entry("bin-list-download", (client, dir) -> client.binListDownload(PARAMS, dir.resolve("bin-list.csv"))),
+            Map.entry("bin-lookup", (client, dir) -> client.binLookup(PARAMS)),
+            Map.entry("browser-bot", (client, dir) -> client.browserBot(PARAMS)),
+            Map.entry("convert", (client, dir) -> client.convert(PARAMS)),
+            Map.entry("domain-lookup", (client, dir) -> client.domainLookup(PARAMS)),
+            Map.entry("email-validate", (client, dir) -> client.emailValidate(PARAMS)),
+            Map.entry("email-verify", (client, dir) -> client.emailVerify(PARAMS)),
+            Map.entry("geocode-address", (client, dir) -> client.geocodeAddress(PARAMS)),
+            Map.entry("geocode-reverse", (client, dir) -> client.geocodeReverse(PARAMS)),
+            Map.entry("hlr-lookup", (client, dir) -> client.hlrLookup(PARAMS)),
+            Map.entry("host-reputation", (client, dir) -> client.hostReputation(PARAMS)),
+            Map.entry("html-clean", (client, dir) -> client.htmlClean(PARAMS, dir.resolve("clean.html"))),
+            Map.entry("html-render", (client, dir) -> client.htmlRender(PARAMS, dir.resolve("render.pdf"))),
+            Map.entry("image-resize", (client, dir) -> client.imageResize(PARAMS, dir.resolve("resize.png"))),
+            Map.entry("image-watermark", (client, dir) -> client.imageWatermark(PARAMS, dir.resolve("watermark.png"))),
+            Map.entry("ip-blocklist", (client, dir) -> client.ipBlocklist(PARAMS)),
+            Map.entry("ip-blocklist-download", (client, dir) -> client.ipBlocklistDownload(PARAMS, dir.resolve("blocklist.csv"))),
+            Map.entry("ip-info", (client, dir) -> client.ipInfo(PARAMS)),
+            Map.entry("ip-probe", (client, dir) -> client.ipProbe(PARAMS)),
+            Map.entry("phone-playback", (client, dir) -> client.phonePlayback(PARAMS)),
+            Map.entry("phone-validate", (client, dir) -> client.phoneValidate(PARAMS)),
+            Map.entry("phone-verify", (client, dir) -> client.phoneVerify(PARAMS)),
+            Map.entry("qr-code", (client, dir) -> client.qrCode(PARAMS, dir.resolve("qr.png"))),
+            Map.entry("sms-verify", (client, dir) -> client.smsVerify(PARAMS)),
+            Map.entry("ua-lookup", (client, dir) -> client.uaLookup(PARAMS)),
+            Map.entry("url-info", (client, dir) -> client.urlInfo(PARAMS)),
+            Map.entry("verify-security-code", (client, dir) -> client.verifySecurityCode(PARAMS)));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void everyEndpointAnswersTheClient() throws IOException {
+        assertEquals(MockNeutrinoAPI.ENDPOINTS, CALLS.keySet());
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().start();
+             NeutrinoAPIClient client = new NeutrinoAPIClient("user", "key", server.getBaseURL())) {
+            for (Map.Entry<String, BiFunction<NeutrinoAPIClient, Path, APIResponse>> call : CALLS.entrySet()) {
+                APIResponse response = call.getValue().apply(client, dir);
+
+                assertEquals(0, response.getErrorCode(), call.getKey() + ": " + response.getErrorMessage());
+                assertTrue(response.getData().isPresent() || response.getFile().isPresent(), call.getKey());
+                assertEquals(1, server.getRequestCount(call.getKey()), call.getKey());
+            }
+            assertEquals(CALLS.size(), server.getRequestCount());
+        }
+    }
+
+    @Test
+    void servesHttp2WithPriorKnowledge() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().http2().start();
+             NeutrinoAPIClient client = NeutrinoAPIClient.builder("user", "key")
+                     .baseURL(server.getBaseURL())
+                     .http2PriorKnowledge()
+                     .build()) {
+            // A prior knowledge client can only talk to an HTTP/2 server
+            APIResponse response = client.ipInfo(PARAMS);
+
+            assertEquals(0, response.getErrorCode(), response.getErrorMessage());
+            assertTrue(response.getData().isPresent());
+        }
+    }
+
+    @Test
+    void datasetDownloadMatchesItsChecksum() throws IOException {
+        try (MockNeutrinoAPI server = MockNeutrinoAPI.builder().start();
+             NeutrinoAPIClient client = new NeutrinoAPIClient("user", "key", server.getBaseURL())) {
+            DatasetRefresher refresher = DatasetRefresher.ipBlocklist(client, Map.of(), dir.resolve("blocklist.csv"));
+
+            assertEquals(DatasetRefresher.RefreshResult.UPDATED, refresher.refresh(),
+                    () -> refresher.getLastError().map(APIResponse::getErrorMessage).orElse(""));
+            assertEquals(DatasetRefresher.RefreshResult.UNCHANGED, refresher.refresh());
+        }
+    }
+}